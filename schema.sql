@@ -31,11 +31,35 @@ CREATE TABLE IF NOT EXISTS usuarios (
     id SERIAL PRIMARY KEY,
     nome VARCHAR(255) NOT NULL,
     email VARCHAR(100) UNIQUE NOT NULL,
-    senha VARCHAR(255) NOT NULL
+    senha VARCHAR(255) NOT NULL,
+    versao BIGINT NOT NULL DEFAULT 0
 );
 
+-- Em bancos já existentes, adicione a coluna de versão (usada como ETag
+-- e para controle de concorrência otimista):
+ALTER TABLE usuarios ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
+
+-- A sequência do id avança de 50 em 50: o Hibernate reserva blocos
+-- de ids (otimizador "pooled") e consegue agrupar os INSERTs em lote
+-- na importação em massa. Em bancos já existentes, rode apenas este
+-- comando:
+ALTER SEQUENCE usuarios_id_seq INCREMENT BY 50;
+
+-- ============================================================
+-- 3.1 - ÍNDICE ÚNICO DE E-MAIL (CASE-INSENSITIVE)
+-- ============================================================
+-- O backend normaliza os e-mails (trim + minúsculas) antes de gravar
+-- e de buscar. Este índice garante a unicidade independente de
+-- maiúsculas/minúsculas e atende a busca do login em uma única
+-- consulta indexada, sem varrer a tabela.
+-- Caso já existam e-mails com letras maiúsculas, normalize-os antes:
+--   UPDATE usuarios SET email = LOWER(TRIM(email));
+-- ============================================================
+CREATE UNIQUE INDEX IF NOT EXISTS ux_usuarios_email_lower
+    ON usuarios (LOWER(email));
+
 -- ============================================================
--- 3.1 - TABELA DE CONTROLE DE INICIALIZAÇÃO
+-- 3.2 - TABELA DE CONTROLE DE INICIALIZAÇÃO
 -- ============================================================
 CREATE TABLE IF NOT EXISTS app_init (
     id SERIAL PRIMARY KEY,
@@ -46,6 +70,65 @@ INSERT INTO app_init (initialized)
 VALUES (FALSE)
 ON CONFLICT DO NOTHING;
 
+-- ============================================================
+-- 3.3 - CONTADOR DE ALTERAÇÕES DA TABELA DE USUÁRIOS
+-- ============================================================
+-- Linha única incrementada a cada escrita em "usuarios". Serve de
+-- ETag barato para as listagens: se nada mudou, a API responde 304
+-- sem consultar nem serializar os usuários.
+-- ============================================================
+CREATE TABLE IF NOT EXISTS usuarios_versao (
+    id BIGINT PRIMARY KEY,
+    versao BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO usuarios_versao (id, versao)
+VALUES (1, 0)
+ON CONFLICT DO NOTHING;
+
+-- ============================================================
+-- 3.4 - ÍNDICES DA BUSCA DE USUÁRIOS
+-- ============================================================
+-- A rota GET /api/users/search?q= procura o termo em qualquer
+-- posição do nome e do e-mail (LOWER(coluna) LIKE '%termo%').
+-- Índices de trigramas (extensão pg_trgm) atendem esse tipo de
+-- busca sem varrer a tabela; o PostgreSQL combina os dois índices
+-- (BitmapOr) quando o termo é procurado no nome OU no e-mail.
+-- A API exige pelo menos 3 caracteres, o tamanho de um trigrama.
+-- Criar extensões exige um usuário com permissão (ex.: postgres).
+-- ============================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS ix_usuarios_nome_trgm
+    ON usuarios USING gin (LOWER(nome) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS ix_usuarios_email_trgm
+    ON usuarios USING gin (LOWER(email) gin_trgm_ops);
+
+-- ============================================================
+-- 3.5 - FEED DE ALTERAÇÕES DE USUÁRIOS (OUTBOX)
+-- ============================================================
+-- Cada escrita em "usuarios" grava aqui, na mesma transação, um
+-- evento por usuário criado, alterado ou excluído. A chave "versao"
+-- é o valor que o contador de 3.3 assumiu para aquela alteração:
+-- como a linha do contador fica travada até o commit, as chaves não
+-- têm lacunas e seguem a ordem dos commits.
+-- Sistemas externos consultam GET /api/users/changes?since=N e
+-- recebem só os eventos com versao maior que N (long polling), em
+-- vez de reler a listagem inteira.
+-- A tabela só cresce; eventos antigos podem ser apagados de tempos
+-- em tempos (consumidores mais atrasados que isso relêem a listagem):
+--   DELETE FROM usuarios_eventos WHERE ocorrido_em < NOW() - INTERVAL '30 days';
+-- ============================================================
+CREATE TABLE IF NOT EXISTS usuarios_eventos (
+    versao BIGINT PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    tipo VARCHAR(10) NOT NULL,
+    nome VARCHAR(255),
+    email VARCHAR(100),
+    ocorrido_em TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
 -- ============================================================
 -- 4 - OBSERVAÇÕES IMPORTANTES
 -- ============================================================
@@ -73,7 +156,7 @@ ON CONFLICT DO NOTHING;
 --      \dt;
 -- 4. Faça uma cópia do application-template.properties,
 --    renomeie para application.properties e configure:
---      spring.datasource.url=jdbc:postgresql://localhost:5432/usercruddb
+--      spring.datasource.url=jdbc:postgresql://localhost:5432/usercruddb?reWriteBatchedInserts=true
 --      spring.datasource.username=postgres
 --      spring.datasource.password=SUA_SENHA_AQUI
 -- 5. Rode o projeto no STS ou IntelliJ:
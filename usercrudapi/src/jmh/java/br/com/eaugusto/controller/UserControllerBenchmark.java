@@ -0,0 +1,57 @@
+package br.com.eaugusto.controller;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.controller.dto.UserResponse;
+import br.com.eaugusto.model.User;
+
+/**
+ * Benchmarks the entity-to-DTO mapping done by
+ * {@link UserController#toResponse(User)}, for one user and for a page of
+ * 1000 users.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserControllerBenchmark {
+
+	private User user;
+	private List<User> page;
+
+	@Setup
+	public void setup() {
+		user = User.builder().id(1L).nome("Bench").email("bench@teste.com").senha("x").build();
+		page = LongStream.rangeClosed(1, 1000)
+				.mapToObj(id -> User.builder().id(id).nome("User " + id).email(id + "@teste.com").senha("x").build())
+				.toList();
+	}
+
+	@Benchmark
+	public UserResponse toResponse() {
+		return UserController.toResponse(user);
+	}
+
+	@Benchmark
+	public List<UserResponse> toResponsePage() {
+		return page.stream().map(UserController::toResponse).toList();
+	}
+}
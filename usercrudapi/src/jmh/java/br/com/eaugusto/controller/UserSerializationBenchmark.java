@@ -0,0 +1,114 @@
+package br.com.eaugusto.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.eaugusto.controller.dto.UserResponse;
+
+/**
+ * Benchmarks writing a listing of {@value #USERS} users the way
+ * {@link UserController#getAll} streams it, in each negotiable format, with
+ * and without gzip. Besides the time, it reports the bytes produced
+ * ({@code bytes} divided by {@code calls}), to weigh the CPU spent against the
+ * payload saved.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSerializationBenchmark {
+
+	private static final int USERS = 10_000;
+
+	@Param({ "json", "smile", "cbor" })
+	public String format;
+
+	@Param({ "false", "true" })
+	public boolean gzip;
+
+	private List<UserResponse> users;
+	private ObjectWriter writer;
+
+	@Setup
+	public void setup() {
+		users = LongStream.rangeClosed(1, USERS)
+				.mapToObj(id -> new UserResponse(id, "Usuário " + id, "usuario" + id + "@teste.com.br")).toList();
+
+		ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+		ObjectMapper mapper = switch (format) {
+		case "smile" -> json.copyWith(new SmileFactory());
+		case "cbor" -> json.copyWith(new CBORFactory());
+		default -> json;
+		};
+		writer = mapper.writerFor(UserResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	@Benchmark
+	public byte[] writeListing(ByteCounter counter) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+		try (OutputStream out = gzip ? new GZIPOutputStream(buffer) : buffer;
+				JsonGenerator generator = writer.createGenerator(out)) {
+			generator.writeStartArray();
+			for (UserResponse user : users) {
+				writer.writeValue(generator, user);
+			}
+			generator.writeEndArray();
+		}
+		counter.record(buffer.size());
+		return buffer.toByteArray();
+	}
+
+	/**
+	 * Bytes written by the benchmark, reported per iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class ByteCounter {
+
+		public long bytes;
+		public long calls;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			bytes = 0;
+			calls = 0;
+		}
+
+		void record(long written) {
+			bytes += written;
+			calls++;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package br.com.eaugusto.exception;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Benchmarks producing the JSON body of a 404 response: creating the exception,
+ * handling it in {@link GlobalExceptionHandler} and serializing the body.
+ * {@code mapBasedNotFound} reproduces the previous handler (a stack-traced
+ * exception and a {@code HashMap} body) as a baseline. Run with
+ * {@code -Djmh.args="GlobalExceptionHandlerBenchmark -prof gc"} to compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per error response.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+	private static final String MESSAGE = "Usuário não encontrado com o ID: 42";
+
+	private GlobalExceptionHandler handler;
+	private ObjectWriter bodyWriter;
+	private ObjectWriter mapWriter;
+
+	@Setup
+	public void setup() {
+		handler = new GlobalExceptionHandler();
+		ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		bodyWriter = objectMapper.writerFor(ErrorResponse.class);
+		mapWriter = objectMapper.writerFor(Map.class);
+	}
+
+	@Benchmark
+	public byte[] notFound() throws Exception {
+		return bodyWriter.writeValueAsBytes(
+				handler.handleUserNotFoundException(new UserNotFoundException(MESSAGE)).getBody());
+	}
+
+	@Benchmark
+	public byte[] mapBasedNotFound() throws Exception {
+		RuntimeException exception = new RuntimeException(MESSAGE);
+		Map<String, Object> error = new HashMap<>();
+		error.put("timestamp", LocalDateTime.now());
+		error.put("status", 404);
+		error.put("error", "Usuário não encontrado.");
+		error.put("message", exception.getMessage());
+		return mapWriter.writeValueAsBytes(error);
+	}
+}
@@ -0,0 +1,89 @@
+package br.com.eaugusto.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark: launches the given command (a {@code java} command
+ * line starting the API) several times and measures the time from process
+ * launch to the first HTTP response from the given URL. Running it once with
+ * the plain jar and once with the {@code fast-startup} AOT/CDS build shows
+ * what the profile saves on each new pod.
+ * <p>
+ * Usage (after {@code mvn -P jmh -DskipTests test-compile}):
+ *
+ * <pre>
+ * java -cp target/test-classes br.com.eaugusto.loadtest.StartupBenchmark \
+ *     http://localhost:8080/api/bootstrap &lt;runs&gt; java -jar target/usercrudapi-0.0.1-SNAPSHOT.jar ...
+ * </pre>
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class StartupBenchmark {
+
+	private static final Duration TIMEOUT = Duration.ofMinutes(2);
+	private static final long POLL_INTERVAL_MILLIS = 5;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.err.println("Usage: StartupBenchmark <url> <runs> <command...>");
+			System.exit(1);
+		}
+		URI target = URI.create(args[0]);
+		int runs = Integer.parseInt(args[1]);
+		List<String> command = Arrays.asList(args).subList(2, args.length);
+
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+		HttpRequest request = HttpRequest.newBuilder(target).GET().build();
+
+		long[] millis = new long[runs];
+		for (int run = 0; run < runs; run++) {
+			millis[run] = timeToFirstResponse(client, request, command);
+			System.out.printf("run %d: %d ms%n", run + 1, millis[run]);
+		}
+
+		Arrays.sort(millis);
+		System.out.printf("runs=%d time-to-first-request min=%dms median=%dms mean=%.0fms max=%dms%n", runs,
+				millis[0], millis[runs / 2], Arrays.stream(millis).average().orElse(0), millis[runs - 1]);
+	}
+
+	private static long timeToFirstResponse(HttpClient client, HttpRequest request, List<String> command)
+			throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+		try {
+			long deadline = start + TIMEOUT.toNanos();
+			while (System.nanoTime() < deadline) {
+				if (!process.isAlive()) {
+					throw new IllegalStateException("Application exited with code " + process.exitValue());
+				}
+				try {
+					HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+					long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					if (response.statusCode() >= 400) {
+						System.err.printf("First response had status %d%n", response.statusCode());
+					}
+					return elapsed;
+				} catch (IOException notListeningYet) {
+					Thread.sleep(POLL_INTERVAL_MILLIS);
+				}
+			}
+			throw new IllegalStateException("No response within " + TIMEOUT.toSeconds() + "s");
+		} finally {
+			process.destroy();
+			if (!process.waitFor(30, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package br.com.eaugusto.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test for a running instance of the API. A fixed number
+ * of clients send GET requests back to back for the given duration; the run
+ * reports throughput and latency percentiles, so the platform-thread and the
+ * {@code virtual-threads} profile can be compared under the same load.
+ * <p>
+ * Usage (after {@code mvn -P jmh -DskipTests test-compile}):
+ * 
+ * <pre>
+ * java -cp target/test-classes br.com.eaugusto.loadtest.UserApiLoadTest \
+ *     http://localhost:8080 &lt;token&gt; [concurrency=200] [seconds=30] [path=/api/users/1]
+ * </pre>
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class UserApiLoadTest {
+
+	private static final Duration WARMUP = Duration.ofSeconds(5);
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 2) {
+			System.err.println("Usage: UserApiLoadTest <baseUrl> <token> [concurrency] [seconds] [path]");
+			System.exit(1);
+		}
+		URI target = URI.create(args[0] + (args.length > 4 ? args[4] : "/api/users/1"));
+		String token = args[1];
+		int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+		Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 30);
+
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+		HttpRequest request = HttpRequest.newBuilder(target).header("Authorization", "Bearer " + token).GET().build();
+
+		System.out.printf("Warming up %s for %ds...%n", target, WARMUP.toSeconds());
+		run(client, request, concurrency, WARMUP);
+
+		Result result = run(client, request, concurrency, duration);
+		long[] latencies = result.latenciesMicros();
+		Arrays.sort(latencies);
+		System.out.printf("clients=%d duration=%ds requests=%d errors=%d%n", concurrency, duration.toSeconds(),
+				latencies.length, result.errors());
+		System.out.printf("throughput=%.1f req/s%n", latencies.length / (double) duration.toSeconds());
+		System.out.printf("latency p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n", percentile(latencies, 50),
+				percentile(latencies, 90), percentile(latencies, 99), percentile(latencies, 100));
+	}
+
+	private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<List<Long>> perClient = new ArrayList<>(concurrency);
+		LongAdder errors = new LongAdder();
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				List<Long> latencies = new ArrayList<>();
+				perClient.add(latencies);
+				clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() >= 400) {
+								errors.increment();
+							}
+						} catch (Exception e) {
+							errors.increment();
+						}
+						latencies.add((System.nanoTime() - start) / 1_000);
+					}
+				});
+			}
+		}
+
+		long[] all = perClient.stream().flatMap(List::stream).mapToLong(Long::longValue).toArray();
+		return new Result(all, errors.sum());
+	}
+
+	private static double percentile(long[] sortedMicros, int percentile) {
+		if (sortedMicros.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sortedMicros.length) - 1;
+		return sortedMicros[Math.max(0, index)] / 1_000.0;
+	}
+
+	private record Result(long[] latenciesMicros, long errors) {
+	}
+}
@@ -0,0 +1,87 @@
+package br.com.eaugusto.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import br.com.eaugusto.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks the per-request cost of {@link JWTRequestFilter} on an
+ * authenticated request, requests with a missing or invalid token (401) and a
+ * public route.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTRequestFilterBenchmark {
+
+	private JWTRequestFilter filter;
+	private String token;
+
+	@Setup
+	public void setup() {
+		JWTUtil jwtUtil = new JWTUtil("benchmark-secret", 10_000, Duration.ofMinutes(15), Duration.ofDays(14),
+				new TokenRevocationList(100_000), new RefreshTokenFamilies(100_000, Duration.ofDays(14)));
+		filter = new JWTRequestFilter(jwtUtil, new SimpleMeterRegistry(), -1);
+		token = jwtUtil.generateToken(User.builder().email("bench@teste.com").build());
+	}
+
+	@TearDown(Level.Invocation)
+	public void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse authenticated() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+		request.addHeader("Authorization", "Bearer " + token);
+		return filter(request);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse missingToken() throws Exception {
+		return filter(new MockHttpServletRequest("GET", "/api/users/1"));
+	}
+
+	@Benchmark
+	public MockHttpServletResponse invalidToken() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+		request.addHeader("Authorization", "Bearer not-a-token");
+		return filter(request);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse publicRoute() throws Exception {
+		return filter(new MockHttpServletRequest("POST", "/api/auth/login"));
+	}
+
+	private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
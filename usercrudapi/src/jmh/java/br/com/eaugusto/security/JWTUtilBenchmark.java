@@ -0,0 +1,88 @@
+package br.com.eaugusto.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Benchmarks token issuance and verification in {@link JWTUtil}. The
+ * {@code extractEmailUncached} case rebuilds a parser and verifies the HMAC on
+ * every call, which is the cost paid on a cache miss. The revocation list holds
+ * {@value #REVOKED_TOKENS} revoked ids, so {@code extractEmail} includes a
+ * realistic revocation check; {@code isRevoked} measures that check alone.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTUtilBenchmark {
+
+	private static final String SECRET = "benchmark-secret";
+	private static final int REVOKED_TOKENS = 50_000;
+
+	private JWTUtil jwtUtil;
+	private Key key;
+	private User user;
+	private String token;
+	private TokenRevocationList revocations;
+	private String tokenId;
+
+	@Setup
+	public void setup() throws Exception {
+		revocations = new TokenRevocationList(100_000);
+		long expiresAt = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+		for (int i = 0; i < REVOKED_TOKENS; i++) {
+			revocations.revoke(UUID.randomUUID().toString(), expiresAt);
+		}
+		jwtUtil = new JWTUtil(SECRET, 10_000, Duration.ofMinutes(15), Duration.ofDays(14), revocations,
+				new RefreshTokenFamilies(100_000, Duration.ofDays(14)));
+		key = Keys.hmacShaKeyFor(
+				MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8)));
+		user = User.builder().id(1L).nome("Bench").email("bench@teste.com").senha("x").build();
+		token = jwtUtil.generateToken(user);
+		tokenId = jwtUtil.verifyAccessToken(token).id();
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public String extractEmail() {
+		return jwtUtil.extractEmail(token);
+	}
+
+	@Benchmark
+	public boolean isRevoked() {
+		return revocations.isRevoked(tokenId);
+	}
+
+	@Benchmark
+	public String extractEmailUncached() {
+		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+	}
+}
@@ -0,0 +1,200 @@
+package br.com.eaugusto.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eaugusto.config.CacheConfig;
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.IUserRepository;
+import br.com.eaugusto.repository.projection.UserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Benchmarks the {@link UserService} CRUD methods against an embedded H2
+ * database seeded with {@value #SEEDED_USERS} users. BCrypt runs at cost 4 so
+ * the write benchmarks measure persistence rather than hashing, which is
+ * covered by {@code PasswordEncoderBenchmark}.
+ * <p>
+ * The update benchmarks also report how many JDBC statements they prepared
+ * ({@code statements} divided by {@code calls}), to compare the load-then-save
+ * update, which reads the user before writing it, with the conditional one,
+ * whose user write is a single statement returning what it changed. Both also
+ * bump the users table version and record the change.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+	private static final int SEEDED_USERS = 10_000;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private ConfigurableApplicationContext context;
+	private IUserService userService;
+	private long existingId;
+	private long existingVersion;
+	private Statistics statistics;
+	private TransactionTemplate transactionTemplate;
+	private EntityManager entityManager;
+
+	@Setup
+	public void setup() {
+		context = new SpringApplicationBuilder(BenchmarkConfig.class).web(WebApplicationType.NONE)
+				.properties(Map.of("spring.datasource.url", "jdbc:h2:mem:userbench;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+						"spring.jpa.hibernate.ddl-auto", "create-drop", "spring.jpa.show-sql", "false",
+						"spring.jpa.properties.hibernate.generate_statistics", "true", "logging.level.root", "WARN"))
+				.run();
+		userService = context.getBean(IUserService.class);
+
+		List<User> seed = LongStream.rangeClosed(1, SEEDED_USERS).mapToObj(
+				index -> User.builder().nome("User " + index).email("user" + index + "@teste.com").senha("x").build())
+				.toList();
+		User existing = context.getBean(IUserRepository.class).saveAll(seed).get(SEEDED_USERS / 2);
+		existingId = existing.getId();
+		existingVersion = existing.getVersao();
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+		transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		entityManager = context.getBean(EntityManager.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object getUserById() {
+		return userService.getUserById(existingId);
+	}
+
+	@Benchmark
+	public Object findCredentialsByEmail() {
+		return userService.findCredentialsByEmail("user" + (SEEDED_USERS / 2) + "@teste.com");
+	}
+
+	@Benchmark
+	public List<UserSummary> getUsersPage() {
+		return userService.getUsersPage(existingId, 100);
+	}
+
+	/**
+	 * Baseline for {@link #getUsersPage()}: the same page loaded as managed
+	 * entities, with their password hashes and dirty-checking snapshots, the way
+	 * read endpoints used to load it. Compare both with {@code -prof gc}.
+	 */
+	@Benchmark
+	public List<User> getUsersPageAsEntities() {
+		return transactionTemplate.execute(status -> entityManager
+				.createQuery("SELECT u FROM User u WHERE u.id > :after ORDER BY u.id", User.class)
+				.setParameter("after", existingId).setMaxResults(100).getResultList());
+	}
+
+	@Benchmark
+	public User updateUser(StatementCounter counter) {
+		long before = statistics.getPrepareStatementCount();
+		User updated = userService.updateUser(existingId,
+				User.builder().nome("Updated " + sequence.incrementAndGet()).email("user-updated@teste.com").build());
+		counter.record(statistics.getPrepareStatementCount() - before);
+		return updated;
+	}
+
+	@Benchmark
+	public User updateUserIfMatch(StatementCounter counter) {
+		long before = statistics.getPrepareStatementCount();
+		User updated = userService.updateUserIfMatch(existingId, existingVersion,
+				User.builder().nome("Updated " + sequence.incrementAndGet()).email("user-updated@teste.com").build());
+		existingVersion = updated.getVersao();
+		counter.record(statistics.getPrepareStatementCount() - before);
+		return updated;
+	}
+
+	@Benchmark
+	public void saveAndDeleteUser() {
+		long next = sequence.incrementAndGet();
+		User saved = userService
+				.saveUser(User.builder().nome("New " + next).email("new" + next + "@teste.com").senha("pwd").build());
+		userService.deleteUser(saved.getId());
+	}
+
+	/**
+	 * Statements prepared by the update benchmarks, reported per iteration.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class StatementCounter {
+
+		public long statements;
+		public long calls;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			statements = 0;
+			calls = 0;
+		}
+
+		void record(long prepared) {
+			statements += prepared;
+			calls++;
+		}
+	}
+
+	/**
+	 * Minimal context with only the persistence layer, the user caches and
+	 * {@link UserService}.
+	 */
+	@Configuration
+	@EnableAutoConfiguration(exclude = { SecurityAutoConfiguration.class,
+			UserDetailsServiceAutoConfiguration.class })
+	@EntityScan(basePackageClasses = User.class)
+	@EnableJpaRepositories(basePackageClasses = IUserRepository.class)
+	@Import({ UserService.class, CacheConfig.class })
+	static class BenchmarkConfig {
+
+		@Bean
+		PasswordEncoder passwordEncoder() {
+			return new BCryptPasswordEncoder(4);
+		}
+	}
+}
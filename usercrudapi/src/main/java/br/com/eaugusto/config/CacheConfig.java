@@ -0,0 +1,39 @@
+package br.com.eaugusto.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration class that provides the in-process Caffeine caches placed
+ * in front of the user repository. Entries are bounded in size and expire after
+ * a fixed time; statistics are recorded so hit ratio and size are published
+ * through the actuator metrics endpoint. Evictions issued inside a transaction
+ * are applied after it commits, so a concurrent read cannot re-cache the old
+ * row in between.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	/** Users by id, as returned by UserService.getUserById. */
+	public static final String USERS_BY_ID = "usersById";
+
+	/** Login credentials by normalized email, as returned by UserService.findCredentialsByEmail. */
+	public static final String USERS_BY_EMAIL = "usersByEmail";
+
+	@Bean
+	CacheManager cacheManager(
+			@Value("${cache.users.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager(USERS_BY_ID, USERS_BY_EMAIL);
+		cacheManager.setCacheSpecification(spec);
+		return new TransactionAwareCacheManagerProxy(cacheManager);
+	}
+}
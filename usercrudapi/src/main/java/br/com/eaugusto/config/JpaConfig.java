@@ -0,0 +1,28 @@
+package br.com.eaugusto.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA configuration class that enables JDBC batching for inserts and updates.
+ * Values set in application.properties take precedence over these defaults.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Configuration
+public class JpaConfig {
+
+	private static final String BATCH_SIZE = "500";
+
+	@Bean
+	HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+		};
+	}
+}
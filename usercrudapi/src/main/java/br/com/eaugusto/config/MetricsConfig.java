@@ -0,0 +1,66 @@
+package br.com.eaugusto.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.eaugusto.security.HashingPasswordEncoder;
+import br.com.eaugusto.security.JWTUtil;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Metrics configuration class. Enables {@code @Timed} on Spring beans and
+ * publishes the password hashing pool and the verified-token cache as meters.
+ * HTTP request latency, HikariCP pool and user cache metrics are registered by
+ * Spring Boot itself; everything is scraped from {@code /actuator/prometheus}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
+	@Bean
+	MeterBinder passwordHashingMetrics(HashingPasswordEncoder encoder) {
+		return registry -> {
+			FunctionTimer.builder("password.hashing", encoder, HashingPasswordEncoder::getCompletedCount,
+					HashingPasswordEncoder::getTotalHashingNanos, TimeUnit.NANOSECONDS)
+					.description("Time spent running BCrypt encode/matches calls").register(registry);
+			FunctionTimer.builder("password.hashing.queue.wait", encoder, HashingPasswordEncoder::getCompletedCount,
+					HashingPasswordEncoder::getTotalQueueWaitNanos, TimeUnit.NANOSECONDS)
+					.description("Time hashing tasks waited for a free pool thread").register(registry);
+			Gauge.builder("password.hashing.queue.depth", encoder, HashingPasswordEncoder::getQueueDepth)
+					.description("Hashing tasks waiting for a free pool thread").register(registry);
+			Gauge.builder("password.hashing.active", encoder, HashingPasswordEncoder::getActiveCount)
+					.description("Hashing tasks currently running").register(registry);
+			FunctionCounter.builder("password.hashing.rejected", encoder, HashingPasswordEncoder::getRejectedCount)
+					.description("Hashing tasks rejected because the pool was saturated").register(registry);
+		};
+	}
+
+	@Bean
+	MeterBinder jwtTokenCacheMetrics(JWTUtil jwtUtil) {
+		return registry -> {
+			FunctionCounter.builder("jwt.token.cache.gets", jwtUtil, util -> util.getTokenCacheStats().hitCount())
+					.tag("result", "hit").description("Tokens found already verified").register(registry);
+			FunctionCounter.builder("jwt.token.cache.gets", jwtUtil, util -> util.getTokenCacheStats().missCount())
+					.tag("result", "miss").description("Tokens that had to be verified").register(registry);
+			FunctionCounter
+					.builder("jwt.token.cache.evictions", jwtUtil, util -> util.getTokenCacheStats().evictionCount())
+					.description("Verified tokens evicted by size or expiration").register(registry);
+			Gauge.builder("jwt.token.cache.size", jwtUtil, JWTUtil::getTokenCacheSize)
+					.description("Verified tokens currently cached").register(registry);
+		};
+	}
+}
@@ -0,0 +1,82 @@
+package br.com.eaugusto.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Read replica configuration, active only when
+ * {@code app.datasource.replica.url} is set. Two connection pools are created,
+ * one for the primary ({@code spring.datasource.*}) and one for the replica
+ * ({@code app.datasource.replica.*}), and the application uses a
+ * {@link LazyConnectionDataSourceProxy} in front of them: the physical
+ * connection is only taken on the first statement, once the transaction has
+ * marked it read-only, so {@code @Transactional(readOnly = true)} work runs on
+ * the replica and everything else on the primary. Scaling reads is then a
+ * matter of pointing the replica URL at a load-balanced set of PostgreSQL
+ * standbys.
+ * <p>
+ * Without the property Spring Boot's single auto-configured pool is used and
+ * read-only transactions simply run on the primary.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Value("${app.datasource.replica.url}") String url,
+			@Value("${app.datasource.replica.username:#{null}}") String username,
+			@Value("${app.datasource.replica.password:#{null}}") String password) {
+		HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName()).url(url)
+				.username(username != null ? username : properties.determineUsername())
+				.password(password != null ? password : properties.determinePassword()).build();
+		replica.setPoolName("usercrud-replica");
+		replica.setReadOnly(true);
+		return replica;
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica) {
+		return routingDataSource(primary, replica);
+	}
+
+	/**
+	 * Builds the data source handed to JPA: connections of read-only transactions
+	 * come from {@code replica}, all others from {@code primary}.
+	 *
+	 * @param primary The read-write data source.
+	 * @param replica The data source for read-only transactions.
+	 * @return The routing data source.
+	 */
+	static DataSource routingDataSource(DataSource primary, DataSource replica) {
+		LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+		routing.setReadOnlyDataSource(replica);
+		return routing;
+	}
+}
@@ -1,13 +1,21 @@
 package br.com.eaugusto.config;
 
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import br.com.eaugusto.security.HashingPasswordEncoder;
 
 /**
- * Security configuration class that provides a BCrypt password encoder bean for
- * password encryption across the application.
+ * Security configuration class that provides the password encoder bean for
+ * password encryption across the application. Hashes are produced by BCrypt
+ * with a configurable cost, prefixed with {@code {bcrypt}} through a
+ * {@link DelegatingPasswordEncoder} so older or weaker hashes can be upgraded
+ * on login, and computed on a dedicated bounded pool.
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 10, 2025
@@ -15,8 +23,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class SecurityConfig {
 
-	@Bean
-	PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	private static final String BCRYPT = "bcrypt";
+
+	@Bean(destroyMethod = "shutdown")
+	HashingPasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+			@Value("${security.password.hashing.threads:0}") int threads,
+			@Value("${security.password.hashing.queue-capacity:256}") int queueCapacity,
+			@Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis,
+			@Value("${security.password.hashing.bulk-threads:0}") int bulkThreads) {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+		DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, Map.of(BCRYPT, bcrypt));
+		delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+		int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		int bulkParallelism = bulkThreads > 0 ? Math.min(bulkThreads, poolSize) : Math.max(1, poolSize / 2);
+		return new HashingPasswordEncoder(delegating, poolSize, queueCapacity, timeoutMillis, bulkParallelism);
 	}
 }
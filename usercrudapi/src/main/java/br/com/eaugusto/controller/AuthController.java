@@ -1,23 +1,47 @@
 package br.com.eaugusto.controller;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.eaugusto.controller.dto.LoginRequest;
+import br.com.eaugusto.exception.InvalidRefreshTokenException;
 import br.com.eaugusto.exception.InvalidUserDataException;
 import br.com.eaugusto.exception.UserNotFoundException;
-import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserCredentials;
 import br.com.eaugusto.security.JWTUtil;
+import br.com.eaugusto.security.JWTUtil.VerifiedToken;
+import br.com.eaugusto.security.LoginRateLimiter;
 import br.com.eaugusto.service.IUserService;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * REST controller responsible for authentication operations. Handles login
- * requests by verifying user credentials and generating JWT tokens.
- * 
+ * requests by verifying user credentials and generating JWT tokens. Attempts
+ * are rate limited per client IP and per email before any password is checked;
+ * successful logins are not counted against the email. The client IP comes from
+ * {@code X-Forwarded-For} only when the request arrives through one of the
+ * proxies trusted by {@code server.tomcat.remoteip.internal-proxies}.
+ * <p>
+ * Login returns a short-lived access token in the body and sets a refresh token
+ * in an HttpOnly cookie scoped to {@code /api/auth}. When the access token
+ * expires the client calls {@code /api/auth/refresh}, which checks only the
+ * refresh token's signature and that its user still exists, never a password,
+ * and exchanges it for a new pair. Each refresh token is the current token of
+ * its login session until it is exchanged, so each one works once; refreshes
+ * are rate limited per client IP like logins. Logout revokes the access token
+ * and ends the session.
+ * </p>
+ *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 11, 2025
  */
@@ -25,27 +49,116 @@ import br.com.eaugusto.service.IUserService;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+	/** Cookie carrying the refresh token. */
+	public static final String REFRESH_COOKIE = "refresh_token";
+
+	private static final String COOKIE_PATH = "/api/auth";
+	private static final String BEARER_PREFIX = "Bearer ";
+
 	private IUserService userService;
 	private PasswordEncoder passwordEncoder;
 	private JWTUtil jwtUtil;
+	private LoginRateLimiter loginRateLimiter;
+	private boolean secureCookie;
 
-	AuthController(IUserService userService, PasswordEncoder passwordEncoder, JWTUtil jwtUtil) {
+	AuthController(IUserService userService, PasswordEncoder passwordEncoder, JWTUtil jwtUtil,
+			LoginRateLimiter loginRateLimiter, @Value("${jwt.refresh-token.cookie-secure:true}") boolean secureCookie) {
 		this.userService = userService;
 		this.passwordEncoder = passwordEncoder;
 		this.jwtUtil = jwtUtil;
+		this.loginRateLimiter = loginRateLimiter;
+		this.secureCookie = secureCookie;
 	}
 
 	@PostMapping("/login")
-	public ResponseEntity<String> login(@RequestBody LoginRequest request) {
-		User user = userService.getAllUsers().stream()
-				.filter(eachUser -> eachUser.getEmail().equals(request.getEmail())).findFirst()
+	public ResponseEntity<String> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+		loginRateLimiter.checkLoginAttempt(httpRequest.getRemoteAddr(), request.getEmail());
+
+		UserCredentials credentials = userService.findCredentialsByEmail(request.getEmail())
 				.orElseThrow(() -> new UserNotFoundException("Usuário não encontrado."));
 
-		if (!passwordEncoder.matches(request.getSenha(), user.getSenha())) {
+		if (!passwordEncoder.matches(request.getSenha(), credentials.senha())) {
 			throw new InvalidUserDataException("Senha inválida");
 		}
+		loginRateLimiter.recordSuccessfulLogin(request.getEmail());
+		userService.upgradePasswordIfNeeded(credentials, request.getSenha());
+
+		return issueTokens(credentials.email(), jwtUtil.generateRefreshToken(credentials.email()));
+	}
+
+	/**
+	 * Exchanges a refresh token for a new access token and a new refresh token.
+	 *
+	 * @param refreshToken The refresh token cookie.
+	 * @param httpRequest  The request, whose client IP is rate limited.
+	 * @return The new access token, with the new refresh token in a cookie.
+	 */
+	@PostMapping("/refresh")
+	public ResponseEntity<String> refresh(@CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken,
+			HttpServletRequest httpRequest) {
+		loginRateLimiter.checkRefreshAttempt(httpRequest.getRemoteAddr());
+		if (refreshToken == null || refreshToken.isBlank()) {
+			throw new InvalidRefreshTokenException("Token de atualização ausente.");
+		}
+
+		VerifiedToken current;
+		try {
+			current = jwtUtil.verifyRefreshToken(refreshToken);
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new InvalidRefreshTokenException("Token de atualização inválido ou expirado.");
+		}
+		if (userService.findCredentialsByEmail(current.subject()).isEmpty()) {
+			jwtUtil.revoke(current);
+			throw new InvalidRefreshTokenException("Usuário não encontrado.");
+		}
+
+		String rotated;
+		try {
+			// Of concurrent refreshes with the same token, only one rotates it.
+			rotated = jwtUtil.rotateRefreshToken(current);
+		} catch (JwtException e) {
+			throw new InvalidRefreshTokenException("Token de atualização já utilizado.");
+		}
+		return issueTokens(current.subject(), rotated);
+	}
+
+	/**
+	 * Revokes the refresh token cookie and the bearer access token, when present
+	 * and valid, and clears the cookie.
+	 *
+	 * @param refreshToken  The refresh token cookie.
+	 * @param authorization The Authorization header.
+	 * @return 204 No Content.
+	 */
+	@PostMapping("/logout")
+	public ResponseEntity<Void> logout(@CookieValue(name = REFRESH_COOKIE, required = false) String refreshToken,
+			@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+		if (refreshToken != null && !refreshToken.isBlank()) {
+			try {
+				jwtUtil.revoke(jwtUtil.verifyRefreshToken(refreshToken));
+			} catch (JwtException | IllegalArgumentException e) {
+				// Already unusable: nothing to revoke.
+			}
+		}
+		if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+			try {
+				jwtUtil.revoke(jwtUtil.verifyAccessToken(authorization.substring(BEARER_PREFIX.length())));
+			} catch (JwtException | IllegalArgumentException e) {
+				// Already unusable: nothing to revoke.
+			}
+		}
+
+		return ResponseEntity.noContent().header(HttpHeaders.SET_COOKIE, refreshCookie("", 0).toString()).build();
+	}
+
+	private ResponseEntity<String> issueTokens(String email, String refreshToken) {
+		ResponseCookie cookie = refreshCookie(refreshToken, jwtUtil.getRefreshTokenTtl().toSeconds());
+		return ResponseEntity.ok().header(HttpHeaders.SET_COOKIE, cookie.toString())
+				.body(jwtUtil.generateToken(email));
+	}
 
-		String token = jwtUtil.generateToken(user);
-		return ResponseEntity.ok(token);
+	private ResponseCookie refreshCookie(String value, long maxAgeSeconds) {
+		return ResponseCookie.from(REFRESH_COOKIE, value).httpOnly(true).secure(secureCookie).sameSite("Strict")
+				.path(COOKIE_PATH).maxAge(maxAgeSeconds).build();
 	}
 }
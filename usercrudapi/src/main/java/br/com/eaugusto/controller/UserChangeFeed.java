@@ -0,0 +1,124 @@
+package br.com.eaugusto.controller;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import br.com.eaugusto.controller.dto.UserChangeResponse;
+import br.com.eaugusto.model.UserChangeEvent;
+import br.com.eaugusto.service.IUserService;
+import br.com.eaugusto.service.UsersChangedEvent;
+
+/**
+ * Long polling over the user change feed. A poll with changes already waiting
+ * is answered at once; otherwise the request is parked, without holding a
+ * servlet thread, until a write commits a version past its cursor or the poll
+ * timeout ends it with an empty list. Parked polls are woken by
+ * {@link UsersChangedEvent}, which is only delivered after the write commits,
+ * and each reads its changes on the application task executor.
+ * <p>
+ * Those events are local: a poll is only woken by writes committed on this
+ * instance. With several instances behind a load balancer, a write committed on
+ * another one reaches a parked poll when its timeout ends it and the client
+ * polls again, so {@code users.changes.poll-timeout} bounds how late it can
+ * be. The feed itself lives in the database, so no change is ever lost, only
+ * delivered later.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Component
+public class UserChangeFeed {
+
+	private final IUserService userService;
+	private final AsyncTaskExecutor executor;
+	private final long timeoutMillis;
+	private final Set<Poll> parked = ConcurrentHashMap.newKeySet();
+	private final AtomicLong latestVersion = new AtomicLong();
+
+	public UserChangeFeed(IUserService userService,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor executor,
+			@Value("${users.changes.poll-timeout:30s}") Duration timeout) {
+		this.userService = userService;
+		this.executor = executor;
+		this.timeoutMillis = timeout.toMillis();
+	}
+
+	/**
+	 * Starts a poll for the changes after {@code since}.
+	 *
+	 * @param since The cursor of the previous poll, or null to read from the
+	 *              beginning.
+	 * @param limit The maximum number of changes to return.
+	 * @return The pending response.
+	 */
+	public DeferredResult<ResponseEntity<List<UserChangeResponse>>> poll(Long since, int limit) {
+		long cursor = since == null ? 0L : since;
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> result = new DeferredResult<>(timeoutMillis,
+				() -> respond(cursor, List.of()));
+
+		List<UserChangeEvent> changes = userService.getChangesSince(cursor, limit);
+		if (!changes.isEmpty()) {
+			result.setResult(respond(cursor, changes));
+			return result;
+		}
+
+		Poll poll = new Poll(cursor, limit, result);
+		parked.add(poll);
+		result.onCompletion(() -> parked.remove(poll));
+		// A write committed between the query and parking would not wake this poll.
+		if (latestVersion.get() > cursor) {
+			wake(poll);
+		}
+		return result;
+	}
+
+	@TransactionalEventListener
+	public void onUsersChanged(UsersChangedEvent event) {
+		long version = latestVersion.accumulateAndGet(event.version(), Math::max);
+		for (Poll poll : parked) {
+			if (poll.since() < version) {
+				wake(poll);
+			}
+		}
+	}
+
+	private void wake(Poll poll) {
+		if (!parked.remove(poll)) {
+			return;
+		}
+		executor.execute(() -> {
+			try {
+				poll.result().setResult(respond(poll.since(), userService.getChangesSince(poll.since(), poll.limit())));
+			} catch (RuntimeException e) {
+				poll.result().setErrorResult(e);
+			}
+		});
+	}
+
+	private static ResponseEntity<List<UserChangeResponse>> respond(long since, List<UserChangeEvent> changes) {
+		long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getVersao();
+		return ResponseEntity.ok().header(UserController.NEXT_CURSOR_HEADER, String.valueOf(next))
+				.body(changes.stream().map(UserChangeFeed::toResponse).toList());
+	}
+
+	private static UserChangeResponse toResponse(UserChangeEvent change) {
+		return new UserChangeResponse(change.getVersao(), change.getUsuarioId(), change.getTipo(), change.getNome(),
+				change.getEmail(), change.getOcorridoEm());
+	}
+
+	private record Poll(long since, int limit, DeferredResult<ResponseEntity<List<UserChangeResponse>>> result) {
+	}
+}
@@ -1,29 +1,82 @@
 package br.com.eaugusto.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.eaugusto.controller.dto.UserBatchGetRequest;
+import br.com.eaugusto.controller.dto.UserBatchGetResponse;
+import br.com.eaugusto.controller.dto.UserBulkDeleteRequest;
+import br.com.eaugusto.controller.dto.UserBulkDeleteResponse;
+import br.com.eaugusto.controller.dto.UserChangeResponse;
+import br.com.eaugusto.controller.dto.UserImportResponse;
 import br.com.eaugusto.controller.dto.UserRequest;
 import br.com.eaugusto.controller.dto.UserResponse;
 import br.com.eaugusto.exception.InvalidUserDataException;
 import br.com.eaugusto.exception.UserNotFoundException;
+import br.com.eaugusto.exception.UserVersionConflictException;
 import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserSummary;
 import br.com.eaugusto.service.IUserService;
+import br.com.eaugusto.service.UserImportResult;
+import br.com.eaugusto.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * REST controller responsible for handling user-related HTTP requests. Provides
- * endpoints for CRUD operations with validation and error handling.
+ * endpoints for CRUD operations with validation and error handling. Listings
+ * are either served as keyset pages ({@code limit}/{@code after}) or streamed
+ * row by row, so memory use does not grow with the size of the table.
+ * <p>
+ * Reads support conditional GET: a user carries its row version as a strong
+ * ETag, which also names the format of the body, and listings carry the change
+ * counter of the users table as a weak one, so an unchanged resource is
+ * answered with 304 before anything is serialized.
+ * </p>
+ * <p>
+ * Besides JSON, responses can be negotiated as Smile
+ * ({@value #APPLICATION_SMILE_VALUE}) or CBOR ({@code application/cbor}), the
+ * binary Jackson formats, which bulk consumers read with less bandwidth and
+ * CPU; they are sent with {@code Vary: Accept}.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 11, 2025
@@ -32,36 +85,200 @@ import br.com.eaugusto.service.IUserService;
 @RequestMapping("/api/users")
 public class UserController {
 
+	/** Response header carrying the cursor for the next keyset page. */
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	/** Media type of the Smile binary JSON format. */
+	public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+	private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+	/** Suffix of a user's ETag in each binary format; JSON has none. */
+	private static final Map<MediaType, String> ETAG_SUFFIXES = Map.of(APPLICATION_SMILE, "-smile",
+			MediaType.APPLICATION_CBOR, "-cbor");
+
+	/** Rows persisted per transaction and JDBC batch during a bulk import. */
+	static final int IMPORT_CHUNK_SIZE = 500;
+
 	private final IUserService userService;
+	private final UserChangeFeed changeFeed;
+	private final Map<MediaType, ObjectWriter> userWriters = new LinkedHashMap<>();
+	private final ObjectReader userRequestReader;
 
-	public UserController(IUserService userService) {
+	public UserController(IUserService userService, UserChangeFeed changeFeed, ObjectMapper objectMapper) {
 		if (userService == null) {
 			throw new IllegalArgumentException("UserService cannot be null.");
 		}
+		if (changeFeed == null) {
+			throw new IllegalArgumentException("UserChangeFeed cannot be null.");
+		}
+		if (objectMapper == null) {
+			throw new IllegalArgumentException("ObjectMapper cannot be null.");
+		}
 		this.userService = userService;
+		this.changeFeed = changeFeed;
+		// JSON first: it is the format sent when the client accepts any of them.
+		userWriters.put(MediaType.APPLICATION_JSON, userWriter(objectMapper));
+		userWriters.put(APPLICATION_SMILE, userWriter(objectMapper.copyWith(new SmileFactory())));
+		userWriters.put(MediaType.APPLICATION_CBOR, userWriter(objectMapper.copyWith(new CBORFactory())));
+		this.userRequestReader = objectMapper.readerFor(UserRequest.class);
 	}
 
+	/**
+	 * Streams every user as an array, writing each row to the response as it
+	 * comes off the database cursor instead of building the whole list in memory.
+	 * The array is JSON unless the client prefers Smile or CBOR.
+	 *
+	 * @param accept     The Accept header of the request.
+	 * @param response   The servlet response the array is written to.
+	 * @param webRequest The current request, checked against If-None-Match.
+	 * @throws IOException if writing to the client fails.
+	 */
 	@GetMapping
-	public ResponseEntity<List<UserResponse>> getAll() {
-		List<UserResponse> result = userService.getAllUsers().stream().map(UserController::toResponse).toList();
+	public void getAll(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+			HttpServletResponse response, WebRequest webRequest) throws IOException {
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		if (webRequest.checkNotModified(listingETag())) {
+			return;
+		}
+
+		MediaType format = negotiatedFormat(accept);
+		ObjectWriter writer = userWriters.get(format);
+		response.setContentType(format.toString());
+		if (format.equals(MediaType.APPLICATION_JSON)) {
+			response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		}
+
+		try (JsonGenerator generator = writer.createGenerator(response.getOutputStream())) {
+			generator.writeStartArray();
+			userService.forEachUser(user -> writeUser(writer, generator, user));
+			generator.writeEndArray();
+		}
+	}
+
+	/**
+	 * Returns one keyset page of users. When the page is full, the id of its last
+	 * user is sent in the {@value #NEXT_CURSOR_HEADER} header to be passed back as
+	 * {@code after}.
+	 *
+	 * @param after The cursor returned by the previous page, absent for the first.
+	 * @param limit      The page size, up to {@link UserService#MAX_PAGE_SIZE}.
+	 * @param webRequest The current request, checked against If-None-Match.
+	 * @return The page of users, or 304 when the users table did not change.
+	 */
+	@GetMapping(params = "limit")
+	public ResponseEntity<List<UserResponse>> getPage(@RequestParam(required = false) Long after,
+			@RequestParam int limit, WebRequest webRequest) {
+		String eTag = listingETag();
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		List<UserResponse> page = userService.getUsersPage(after, limit).stream().map(UserController::toResponse)
+				.toList();
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT);
+		if (page.size() == limit) {
+			builder.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+		}
+		return builder.body(page);
+	}
+
+	/**
+	 * Searches users by name or email, paginated like {@link #getPage}.
+	 *
+	 * @param q          The text to look for in the name or email.
+	 * @param after      The cursor returned by the previous page, absent for the
+	 *                   first.
+	 * @param limit      The page size, up to {@link UserService#MAX_PAGE_SIZE}.
+	 * @param webRequest The current request, checked against If-None-Match.
+	 * @return The matching users, or 304 when the users table did not change.
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<List<UserResponse>> search(@RequestParam String q,
+			@RequestParam(required = false) Long after, @RequestParam(defaultValue = "50") int limit,
+			WebRequest webRequest) {
+		String eTag = listingETag();
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		List<UserResponse> page = userService.searchUsers(q, after, limit).stream()
+				.map(UserController::toResponse).toList();
 
-		return ResponseEntity.ok(result);
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT);
+		if (page.size() == limit) {
+			builder.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+		}
+		return builder.body(page);
+	}
+
+	/**
+	 * Returns the user changes recorded after {@code since}, oldest first, for
+	 * consumers that would otherwise re-read the whole listing to find them. When
+	 * there is nothing new the request waits (long polling) until a write commits
+	 * or the poll times out with an empty list. The
+	 * {@value #NEXT_CURSOR_HEADER} header always carries the cursor for the next
+	 * poll.
+	 *
+	 * @param since The cursor returned by the previous poll, absent to read the
+	 *              feed from the beginning.
+	 * @param limit The maximum number of changes, up to
+	 *              {@link UserService#MAX_PAGE_SIZE}.
+	 * @return The pending list of changes.
+	 */
+	@GetMapping("/changes")
+	public DeferredResult<ResponseEntity<List<UserChangeResponse>>> changes(
+			@RequestParam(required = false) Long since, @RequestParam(defaultValue = "100") int limit) {
+		return changeFeed.poll(since, limit);
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
+	public ResponseEntity<UserResponse> getById(@PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, WebRequest webRequest) {
 		if (id == null) {
 			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
 		}
 
-		User user = userService.getUserById(id)
+		UserSummary user = userService.getUserById(id)
 				.orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com ID: " + id));
 
-		return ResponseEntity.ok(toResponse(user));
+		MediaType format = negotiatedFormat(accept);
+		String eTag = eTag(user.versao(), format);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		return withFormat(ResponseEntity.ok(), eTag, format).body(toResponse(user));
+	}
+
+	/**
+	 * Fetches many users by id in one request, for callers that would otherwise
+	 * call {@link #getById} once per id. Users come back in the order their ids
+	 * were requested, each id once; ids that do not exist are listed in
+	 * {@code missing}.
+	 *
+	 * @param request The ids to fetch, up to {@link UserService#MAX_BATCH_GET}.
+	 * @return The users found and the missing ids.
+	 */
+	@PostMapping("/batch-get")
+	public ResponseEntity<UserBatchGetResponse> getMany(@RequestBody UserBatchGetRequest request) {
+		if (request == null || request.getIds() == null) {
+			throw new InvalidUserDataException("A lista de IDs não pode ser vazia.");
+		}
+
+		List<UserSummary> users = userService.getUsersByIds(request.getIds());
+		Set<Long> found = new HashSet<>();
+		users.forEach(user -> found.add(user.id()));
+		List<Long> missing = request.getIds().stream().distinct().filter(id -> !found.contains(id)).toList();
+
+		return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(new UserBatchGetResponse(
+				users.stream().map(UserController::toResponse).toList(), missing));
 	}
 
 	@PostMapping
-	public ResponseEntity<UserResponse> create(@RequestBody UserRequest request) {
+	public ResponseEntity<UserResponse> create(@RequestBody UserRequest request,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 		if (request == null) {
 			throw new InvalidUserDataException("A requisição do usuário não pode ser nula.");
 		}
@@ -72,11 +289,59 @@ public class UserController {
 		URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(saved.getId())
 				.toUri();
 
-		return ResponseEntity.created(location).body(toResponse(saved));
+		MediaType format = negotiatedFormat(accept);
+		return withFormat(ResponseEntity.created(location), eTag(saved.getVersao(), format), format)
+				.body(toResponse(saved));
 	}
 
+	/**
+	 * Bulk import of users from a JSON array or an NDJSON stream. The body is
+	 * parsed incrementally and persisted in chunks of {@value #IMPORT_CHUNK_SIZE}
+	 * rows, so the request size is not bounded by memory. Invalid rows, including
+	 * {@code null} rows and rows of the wrong shape, do not stop the import; a
+	 * malformed document stops it at the row that could not be read.
+	 *
+	 * @param body The raw request body.
+	 * @return A report with the row counters and the rows that failed.
+	 * @throws IOException if the body cannot be read.
+	 */
+	@PostMapping(value = "/import", consumes = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE })
+	public ResponseEntity<UserImportResponse> importUsers(InputStream body) throws IOException {
+		UserImportResponse report = new UserImportResponse();
+		List<User> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+		try (MappingIterator<UserRequest> rows = userRequestReader.readValues(body)) {
+			UserRequest row;
+			while ((row = nextRow(rows, chunk, report)) != null) {
+				chunk.add(toEntity(row));
+				if (chunk.size() == IMPORT_CHUNK_SIZE) {
+					importChunk(chunk, report);
+				}
+			}
+		}
+		importChunk(chunk, report);
+
+		return ResponseEntity.ok(report);
+	}
+
+	/**
+	 * Updates a user. With an {@code If-Match} header carrying the ETag the client
+	 * last saw, the update is a single conditional statement and a stale version
+	 * is answered with 412. Without it, concurrent edits are still detected
+	 * through the version column and answered with 409.
+	 *
+	 * @param id      The ID of the user to update.
+	 * @param ifMatch The optional If-Match header.
+	 * @param accept  The Accept header, which picks the format of the response.
+	 * @param request The new user data.
+	 * @return The updated user with its new ETag.
+	 */
 	@PutMapping("/{id}")
-	public ResponseEntity<UserResponse> update(@PathVariable Long id, @RequestBody UserRequest request) {
+	public ResponseEntity<UserResponse> update(@PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+			@RequestBody UserRequest request) {
 		if (id == null) {
 			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
 		}
@@ -85,9 +350,12 @@ public class UserController {
 		}
 
 		User toUpdate = toEntity(request);
-		User updated = userService.updateUser(id, toUpdate);
+		Long expectedVersion = parseVersion(ifMatch);
+		User updated = expectedVersion == null ? userService.updateUser(id, toUpdate)
+				: userService.updateUserIfMatch(id, expectedVersion, toUpdate);
 
-		return ResponseEntity.ok(toResponse(updated));
+		MediaType format = negotiatedFormat(accept);
+		return withFormat(ResponseEntity.ok(), eTag(updated.getVersao(), format), format).body(toResponse(updated));
 	}
 
 	@DeleteMapping("/{id}")
@@ -100,10 +368,165 @@ public class UserController {
 		return ResponseEntity.noContent().build();
 	}
 
-	private static UserResponse toResponse(User user) {
+	/**
+	 * Deletes many users at once. Ids that do not exist are ignored; the response
+	 * reports how many users were actually deleted.
+	 *
+	 * @param request The ids to delete.
+	 * @return The requested and deleted counts.
+	 */
+	@PostMapping("/bulk-delete")
+	public ResponseEntity<UserBulkDeleteResponse> deleteMany(@RequestBody UserBulkDeleteRequest request) {
+		if (request == null || request.getIds() == null) {
+			throw new InvalidUserDataException("A lista de IDs não pode ser vazia.");
+		}
+
+		int deleted = userService.deleteUsers(request.getIds());
+		return ResponseEntity.ok(new UserBulkDeleteResponse(request.getIds().size(), deleted));
+	}
+
+	private void importChunk(List<User> chunk, UserImportResponse report) {
+		if (!chunk.isEmpty()) {
+			userService.importUsers(chunk, report.getTotal()).forEach(report::add);
+			chunk.clear();
+		}
+	}
+
+	/**
+	 * Reads the next row of an import. A row that is well-formed JSON but not a
+	 * user, such as {@code null}, is reported as failed and skipped, since the
+	 * iterator resumes at the next row; the pending chunk is persisted first, so
+	 * row positions stay in request order. A malformed document ends the import:
+	 * the rows read so far are persisted and a failed row is reported at the
+	 * position where reading stopped.
+	 *
+	 * @return The next row, or null when there are no more rows to import.
+	 */
+	private UserRequest nextRow(MappingIterator<UserRequest> rows, List<User> chunk, UserImportResponse report)
+			throws IOException {
+		try {
+			while (rows.hasNextValue()) {
+				UserRequest row;
+				try {
+					row = rows.nextValue();
+				} catch (MismatchedInputException e) {
+					row = null;
+				}
+				if (row != null) {
+					return row;
+				}
+				importChunk(chunk, report);
+				report.add(UserImportResult.failed(report.getTotal(), null, "Linha inválida."));
+			}
+			return null;
+		} catch (JsonProcessingException e) {
+			importChunk(chunk, report);
+			report.add(UserImportResult.failed(report.getTotal(), null, "JSON inválido."));
+			return null;
+		}
+	}
+
+	private static ObjectWriter userWriter(ObjectMapper objectMapper) {
+		return objectMapper.writerFor(UserResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	/**
+	 * Picks the format of a streamed listing or of a single user: the most
+	 * specific type of the Accept header that one of the writers produces, JSON
+	 * when the header is absent, invalid or accepts none of them.
+	 */
+	private MediaType negotiatedFormat(String accept) {
+		if (accept == null || accept.isBlank()) {
+			return MediaType.APPLICATION_JSON;
+		}
+		List<MediaType> accepted;
+		try {
+			accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		} catch (InvalidMediaTypeException e) {
+			return MediaType.APPLICATION_JSON;
+		}
+		MimeTypeUtils.sortBySpecificity(accepted);
+		for (MediaType type : accepted) {
+			for (MediaType format : userWriters.keySet()) {
+				if (type.isCompatibleWith(format)) {
+					return format;
+				}
+			}
+		}
+		return MediaType.APPLICATION_JSON;
+	}
+
+	private static void writeUser(ObjectWriter writer, JsonGenerator generator, UserSummary user) {
+		try {
+			writer.writeValue(generator, toResponse(user));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Weak ETag of the listings: it names the version of the users table, not the
+	 * bytes sent, which vary with the negotiated format and compression (Tomcat
+	 * does not gzip responses carrying a strong ETag). If-None-Match uses the weak
+	 * comparison, so clients holding the former strong value still get 304.
+	 */
+	private String listingETag() {
+		return "W/\"users-" + userService.getUsersVersion() + "\"";
+	}
+
+	/**
+	 * Strong ETag of a user in the given format. Each format is a different
+	 * sequence of bytes, so each gets its own tag: the row version alone for
+	 * JSON, as before the binary formats existed, with a suffix for the others.
+	 */
+	private static String eTag(Long versao, MediaType format) {
+		return "\"" + versao + ETAG_SUFFIXES.getOrDefault(format, "") + "\"";
+	}
+
+	/**
+	 * Sets the ETag of a single user response and its Content-Type, so that the
+	 * body is written in the format the ETag names.
+	 */
+	private static ResponseEntity.BodyBuilder withFormat(ResponseEntity.BodyBuilder builder, String eTag,
+			MediaType format) {
+		return builder.eTag(eTag).varyBy(HttpHeaders.ACCEPT).contentType(format);
+	}
+
+	/**
+	 * Extracts the version from an If-Match header produced by {@link #eTag}, in
+	 * any format: the version is the same whichever representation the client
+	 * saw.
+	 * If-Match uses the strong comparison, which a weak ETag never passes, so a
+	 * weak one is answered with 412 like a stale version.
+	 *
+	 * @return The version, or null when the header is absent or {@code *}.
+	 * @throws UserVersionConflictException if the ETag is weak.
+	 */
+	private static Long parseVersion(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+			return null;
+		}
+		String value = ifMatch.trim();
+		if (value.startsWith("W/")) {
+			throw new UserVersionConflictException("Cabeçalho If-Match exige uma ETag forte: " + ifMatch);
+		}
+		String tag = value.replace("\"", "");
+		int suffix = tag.indexOf('-');
+		try {
+			return Long.valueOf(suffix > 0 ? tag.substring(0, suffix) : tag);
+		} catch (NumberFormatException e) {
+			throw new InvalidUserDataException("Cabeçalho If-Match inválido: " + ifMatch);
+		}
+	}
+
+	static UserResponse toResponse(User user) {
 		return new UserResponse(user.getId(), user.getNome(), user.getEmail());
 	}
 
+	static UserResponse toResponse(UserSummary user) {
+		return new UserResponse(user.id(), user.nome(), user.email());
+	}
+
 	private static User toEntity(UserRequest request) {
 		User user = new User();
 		user.setNome(request.getNome());
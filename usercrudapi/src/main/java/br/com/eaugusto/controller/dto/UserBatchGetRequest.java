@@ -0,0 +1,22 @@
+package br.com.eaugusto.controller.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing a batch lookup request. Contains the ids of
+ * the users to fetch.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchGetRequest {
+
+	private List<Long> ids;
+}
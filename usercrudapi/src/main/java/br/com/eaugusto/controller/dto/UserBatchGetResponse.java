@@ -0,0 +1,24 @@
+package br.com.eaugusto.controller.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing the result of a batch lookup: the users
+ * found, in the order they were requested, and the requested ids that do not
+ * exist.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchGetResponse {
+
+	private List<UserResponse> users;
+	private List<Long> missing;
+}
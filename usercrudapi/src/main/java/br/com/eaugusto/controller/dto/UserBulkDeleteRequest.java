@@ -0,0 +1,22 @@
+package br.com.eaugusto.controller.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing a bulk delete request. Contains the ids of
+ * the users to delete.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkDeleteRequest {
+
+	private List<Long> ids;
+}
@@ -0,0 +1,21 @@
+package br.com.eaugusto.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing the result of a bulk delete: how many ids
+ * were requested and how many users were actually deleted.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkDeleteResponse {
+
+	private int requested;
+	private int deleted;
+}
@@ -0,0 +1,29 @@
+package br.com.eaugusto.controller.dto;
+
+import java.time.Instant;
+
+import br.com.eaugusto.model.UserChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing one entry of the user change feed. The
+ * name and email are the values after the change and are absent for
+ * deletions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeResponse {
+
+	private Long versao;
+	private Long usuarioId;
+	private UserChangeType tipo;
+	private String nome;
+	private String email;
+	private Instant ocorridoEm;
+}
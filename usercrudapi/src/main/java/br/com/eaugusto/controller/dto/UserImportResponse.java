@@ -0,0 +1,40 @@
+package br.com.eaugusto.controller.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.com.eaugusto.service.UserImportResult;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data transfer object representing the report of a bulk user import. Contains
+ * the row counters and the rows that failed, in request order. Created rows
+ * are only counted, so the report of a large import stays small; at most
+ * {@value #MAX_REPORTED_FAILURES} failures are listed, and {@code failed} tells
+ * whether more were left out.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+public class UserImportResponse {
+
+	/** Largest number of failed rows listed in a report. */
+	public static final int MAX_REPORTED_FAILURES = 1000;
+
+	private int total;
+	private int created;
+	private int failed;
+	private List<UserImportResult> failures = new ArrayList<>();
+
+	public void add(UserImportResult result) {
+		total++;
+		if (result.getStatus() == UserImportResult.Status.CREATED) {
+			created++;
+		} else if (++failed <= MAX_REPORTED_FAILURES) {
+			failures.add(result);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package br.com.eaugusto.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Body of every error response returned by {@link GlobalExceptionHandler}. Keeps
+ * the field names the front-end already reads ({@code timestamp},
+ * {@code status}, {@code error} and {@code message}) while being serialized
+ * directly by Jackson, without building a map per response.
+ *
+ * @param timestamp when the error was handled
+ * @param status    the HTTP status code
+ * @param error     short, user-facing description of the error type
+ * @param message   details of this particular error
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public record ErrorResponse(LocalDateTime timestamp, int status, String error, String message) {
+
+	static ErrorResponse of(ErrorType type, String message) {
+		return new ErrorResponse(LocalDateTime.now(), type.status.value(), type.error, message);
+	}
+}
@@ -0,0 +1,30 @@
+package br.com.eaugusto.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Error categories handled by {@link GlobalExceptionHandler}, each with its
+ * HTTP status and the user-facing text sent in the {@code error} field.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+enum ErrorType {
+
+	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "Usuário não encontrado."),
+	INVALID_USER_DATA(HttpStatus.BAD_REQUEST, "Dados de usuário inválidos."),
+	VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED, "Versão do usuário desatualizada."),
+	EDIT_CONFLICT(HttpStatus.CONFLICT, "Conflito de edição."),
+	INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "Sessão expirada."),
+	TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Muitas tentativas de login."),
+	OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "Serviço temporariamente sobrecarregado."),
+	INTERNAL(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor.");
+
+	final HttpStatus status;
+	final String error;
+
+	ErrorType(HttpStatus status, String error) {
+		this.status = status;
+		this.error = error;
+	}
+}
@@ -1,17 +1,17 @@
 package br.com.eaugusto.exception;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * Global exception handler for managing application-wide exceptions. Returns
  * structured JSON responses for known error types to be shown in the front-end.
+ * Bodies are typed {@link ErrorResponse} records whose status and error text
+ * come from the constants in {@link ErrorType}, so handling an error only
+ * allocates the record itself and its timestamp.
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 10, 2025
@@ -19,38 +19,56 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-	private static final String TIMESTAMP = "timestamp";
-	private static final String STATUS = "status";
-	private static final String ERROR = "error";
-	private static final String MESSAGE = "message";
-
 	@ExceptionHandler(UserNotFoundException.class)
-	public ResponseEntity<Map<String, Object>> handleUserNotFoundException(UserNotFoundException exception) {
-		Map<String, Object> error = new HashMap<>();
-		error.put(TIMESTAMP, LocalDateTime.now());
-		error.put(STATUS, HttpStatus.NOT_FOUND.value());
-		error.put(ERROR, "Usuário não encontrado.");
-		error.put(MESSAGE, exception.getMessage());
-		return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+	public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException exception) {
+		return respond(ErrorType.USER_NOT_FOUND, exception.getMessage());
 	}
 
 	@ExceptionHandler(InvalidUserDataException.class)
-	public ResponseEntity<Map<String, Object>> handleInvalidUserDataException(InvalidUserDataException exception) {
-		Map<String, Object> error = new HashMap<>();
-		error.put(TIMESTAMP, LocalDateTime.now());
-		error.put(STATUS, HttpStatus.BAD_REQUEST.value());
-		error.put(ERROR, "Dados de usuário inválidos.");
-		error.put(MESSAGE, exception.getMessage());
-		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+	public ResponseEntity<ErrorResponse> handleInvalidUserDataException(InvalidUserDataException exception) {
+		return respond(ErrorType.INVALID_USER_DATA, exception.getMessage());
+	}
+
+	@ExceptionHandler(UserVersionConflictException.class)
+	public ResponseEntity<ErrorResponse> handleUserVersionConflictException(
+			UserVersionConflictException exception) {
+		return respond(ErrorType.VERSION_CONFLICT, exception.getMessage());
+	}
+
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+			ObjectOptimisticLockingFailureException exception) {
+		return respond(ErrorType.EDIT_CONFLICT,
+				"O usuário foi alterado por outra requisição. Recarregue e tente novamente.");
+	}
+
+	@ExceptionHandler(InvalidRefreshTokenException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidRefreshTokenException(
+			InvalidRefreshTokenException exception) {
+		return respond(ErrorType.INVALID_REFRESH_TOKEN, exception.getMessage());
+	}
+
+	@ExceptionHandler(TooManyLoginAttemptsException.class)
+	public ResponseEntity<ErrorResponse> handleTooManyLoginAttemptsException(
+			TooManyLoginAttemptsException exception) {
+		ErrorType type = ErrorType.TOO_MANY_LOGIN_ATTEMPTS;
+		return ResponseEntity.status(type.status)
+				.header(HttpHeaders.RETRY_AFTER, Long.toString(exception.getRetryAfterSeconds()))
+				.body(ErrorResponse.of(type, exception.getMessage()));
+	}
+
+	@ExceptionHandler(PasswordHashingUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(
+			PasswordHashingUnavailableException exception) {
+		return respond(ErrorType.OVERLOADED, "Tente novamente em alguns instantes.");
 	}
 
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<Map<String, Object>> handleGenericException(Exception exception) {
-		Map<String, Object> error = new HashMap<>();
-		error.put(TIMESTAMP, LocalDateTime.now());
-		error.put(STATUS, HttpStatus.INTERNAL_SERVER_ERROR.value());
-		error.put(ERROR, "Erro interno do servidor.");
-		error.put(MESSAGE, exception.getMessage());
-		return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
+	public ResponseEntity<ErrorResponse> handleGenericException(Exception exception) {
+		return respond(ErrorType.INTERNAL, exception.getMessage());
+	}
+
+	private static ResponseEntity<ErrorResponse> respond(ErrorType type, String message) {
+		return new ResponseEntity<>(ErrorResponse.of(type, message), type.status);
 	}
 }
@@ -0,0 +1,21 @@
+package br.com.eaugusto.exception;
+
+/**
+ * Exception thrown when a refresh is attempted without a valid refresh token:
+ * it is missing, expired, revoked or was already exchanged, or its user no
+ * longer exists. The client has to log in again.
+ * <p>
+ * Like {@link InvalidUserDataException}, no stack trace is captured.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidRefreshTokenException(String message) {
+		super(message, null, false, false);
+	}
+}
@@ -0,0 +1,22 @@
+package br.com.eaugusto.exception;
+
+/**
+ * Exception thrown when the password hashing pool is saturated or does not
+ * answer in time, so the request is rejected instead of piling up more CPU
+ * work.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PasswordHashingUnavailableException(String message) {
+		super(message);
+	}
+
+	public PasswordHashingUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,25 @@
+package br.com.eaugusto.exception;
+
+/**
+ * Exception thrown when a client or an account exceeds the allowed rate of
+ * login attempts. Carries the number of seconds after which a new attempt will
+ * be accepted, sent back in the {@code Retry-After} header.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSeconds;
+
+	public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+		super(message, null, false, false);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
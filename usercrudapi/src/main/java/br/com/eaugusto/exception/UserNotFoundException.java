@@ -1,7 +1,9 @@
 package br.com.eaugusto.exception;
 
 /**
- * Exception thrown when a user is not found in the database.
+ * Exception thrown when a user is not found in the database. Thrown without a
+ * stack trace, like {@link InvalidUserDataException}, since unknown ids are a
+ * normal client error.
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 10, 2025
@@ -11,6 +13,6 @@ public class UserNotFoundException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 
 	public UserNotFoundException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 }
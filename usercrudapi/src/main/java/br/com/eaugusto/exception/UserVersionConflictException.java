@@ -0,0 +1,18 @@
+package br.com.eaugusto.exception;
+
+/**
+ * Exception thrown when a conditional update names a user version (If-Match)
+ * that is no longer the current one, meaning someone else changed the user in
+ * the meantime.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class UserVersionConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public UserVersionConflictException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,77 @@
+package br.com.eaugusto.model;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing one entry of the user change feed (transactional
+ * outbox). Maps to the "usuarios_eventos" table; rows are written in the same
+ * transaction as the user write they describe and are never updated.
+ * <p>
+ * The key is the value the users table version took for this change: every
+ * write increments that counter by the number of events it records while
+ * holding its row lock, so keys are gap-free and follow commit order, and a
+ * consumer that read up to some version never misses an event committed later
+ * with a lower one.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Entity
+@Table(name = "usuarios_eventos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangeEvent implements Persistable<Long> {
+
+	/** Users table version of this change, assigned by UserService. */
+	@Id
+	private Long versao;
+
+	@Column(name = "usuario_id", nullable = false)
+	private Long usuarioId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private UserChangeType tipo;
+
+	/** Name after the change; null for deletions. */
+	private String nome;
+
+	/** Email after the change; null for deletions. */
+	@Column(length = 100)
+	private String email;
+
+	@Column(name = "ocorrido_em", nullable = false)
+	private Instant ocorridoEm;
+
+	public static UserChangeEvent of(UserChangeType tipo, Long usuarioId, String nome, String email) {
+		return new UserChangeEvent(null, usuarioId, tipo, nome, email, Instant.now());
+	}
+
+	@Override
+	public Long getId() {
+		return versao;
+	}
+
+	/**
+	 * Events are insert-only, so saving one never needs the lookup Spring Data
+	 * does for entities with assigned ids.
+	 */
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+}
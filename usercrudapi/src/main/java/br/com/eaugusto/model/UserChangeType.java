@@ -0,0 +1,11 @@
+package br.com.eaugusto.model;
+
+/**
+ * Kind of change recorded in the user change feed.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public enum UserChangeType {
+	CREATED, UPDATED, DELETED
+}
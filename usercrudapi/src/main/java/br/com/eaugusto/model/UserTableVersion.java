@@ -0,0 +1,34 @@
+package br.com.eaugusto.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row change counter of the "usuarios" table. Incremented in the same
+ * transaction as every user write, it serves as a cheap ETag for user
+ * listings.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Entity
+@Table(name = "usuarios_versao")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTableVersion {
+
+	/** Id of the only row of the table. */
+	public static final long SINGLETON_ID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column(nullable = false)
+	private Long versao;
+}
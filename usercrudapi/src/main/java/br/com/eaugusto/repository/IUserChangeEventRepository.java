@@ -0,0 +1,28 @@
+package br.com.eaugusto.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.eaugusto.model.UserChangeEvent;
+
+/**
+ * Repository interface for the user change feed.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Repository
+public interface IUserChangeEventRepository extends JpaRepository<UserChangeEvent, Long> {
+
+	/**
+	 * Returns the events recorded after the given version, oldest first.
+	 *
+	 * @param versao the last version the consumer has already seen
+	 * @param limit  the maximum number of events to return
+	 * @return up to {@code limit} events with a greater version
+	 */
+	List<UserChangeEvent> findByVersaoGreaterThanOrderByVersaoAsc(long versao, Limit limit);
+}
@@ -1,21 +1,37 @@
 package br.com.eaugusto.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.repository.projection.UserSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
- * Repository interface for managing User entities. Provides CRUD operations and
- * a custom finder method.
+ * Repository interface for managing User entities. Provides CRUD operations, a
+ * custom finder method and keyset/streaming reads for large listings; writes
+ * returning what they changed are native SQL, in {@link IUserRepositoryCustom}.
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 10, 2025
  */
 @Repository
-public interface IUserRepository extends JpaRepository<User, Long> {
+public interface IUserRepository extends JpaRepository<User, Long>, IUserRepositoryCustom {
 
 	/**
 	 * Finds a user by their unique email address.
@@ -24,4 +40,125 @@ public interface IUserRepository extends JpaRepository<User, Long> {
 	 * @return an Optional containing the user if found, or empty otherwise
 	 */
 	Optional<User> findByEmail(String email);
+
+	/**
+	 * Returns which of the given emails are already registered, in a single query.
+	 * 
+	 * @param emails the normalized emails to check
+	 * @return the subset of emails that already exist
+	 */
+	@Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+	Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+	/**
+	 * Returns the client-visible columns of the given users and locks their rows
+	 * until the transaction ends, so their email and version cannot change before
+	 * the caller writes them. Used by the bulk delete, which must know the emails
+	 * of the users it deletes, to evict them from the email cache; single-user
+	 * writes return the email from their own statement instead.
+	 * 
+	 * @param ids the ids of the users to lock
+	 * @return the summaries of the existing users, in no particular order
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u WHERE u.id IN :ids")
+	List<UserSummary> lockSummariesByIds(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Deletes all the given users in a single statement, without loading them.
+	 * 
+	 * @param ids the ids of the users to delete
+	 * @return the number of deleted rows; ids that do not exist are ignored
+	 */
+	@Modifying
+	@Query("DELETE FROM User u WHERE u.id IN :ids")
+	int deleteUsersByIds(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Keyset-paginated search over name and email. The pattern is matched against
+	 * the lower-cased columns, which are covered by the trigram indexes in
+	 * schema.sql, and only the columns of {@link UserSummary} are selected.
+	 * 
+	 * @param pattern the lower-case LIKE pattern, with {@code !} as escape
+	 * @param after   the last id already returned, 0 for the first page
+	 * @param limit   the maximum number of results
+	 * @return the matching users with an id greater than {@code after}, by id
+	 */
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u WHERE (LOWER(u.nome) LIKE :pattern ESCAPE '!' OR LOWER(u.email) LIKE :pattern ESCAPE '!') "
+			+ "AND u.id > :after ORDER BY u.id")
+	List<UserSummary> searchByNomeOrEmail(@Param("pattern") String pattern, @Param("after") Long after, Limit limit);
+
+	/**
+	 * Returns the client-visible columns of one user, without loading the entity
+	 * or its password hash.
+	 * 
+	 * @param id the id of the user to find
+	 * @return the user summary, or empty if the user does not exist
+	 */
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u WHERE u.id = :id")
+	Optional<UserSummary> findSummaryById(@Param("id") Long id);
+
+	/**
+	 * Returns the client-visible columns of the given users in a single query,
+	 * through the primary key index. Ids that do not exist are skipped.
+	 * 
+	 * @param ids the ids of the users to find
+	 * @return the summaries of the existing users, in no particular order
+	 */
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u WHERE u.id IN :ids")
+	List<UserSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Returns what login needs to check a password, through the unique email
+	 * index and without loading the entity.
+	 * 
+	 * @param email the normalized email
+	 * @return the credentials, or empty if no user has this email
+	 */
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserCredentials(u.id, u.email, u.senha) "
+			+ "FROM User u WHERE u.email = :email")
+	Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+	/**
+	 * Replaces a user's password hash in a single statement. The version is not
+	 * incremented because the hash is never sent to clients.
+	 * 
+	 * @param id    the id of the user
+	 * @param senha the new password hash
+	 * @return the number of updated rows
+	 */
+	@Modifying
+	@Query("UPDATE User u SET u.senha = :senha WHERE u.id = :id")
+	int updatePassword(@Param("id") Long id, @Param("senha") String senha);
+
+	/**
+	 * Keyset (seek) pagination: returns the next users after the given id, ordered
+	 * by id. Uses the primary key index, so every page costs the same no matter
+	 * how deep the client has scrolled. Only the columns of {@link UserSummary}
+	 * are selected.
+	 * 
+	 * @param after the last id already seen by the client (exclusive)
+	 * @param limit the maximum number of users to return
+	 * @return the next page of users ordered by id
+	 */
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u WHERE u.id > :after ORDER BY u.id")
+	List<UserSummary> findSummariesAfter(@Param("after") Long after, Limit limit);
+
+	/**
+	 * Streams every user ordered by id through a JDBC cursor. Must be consumed
+	 * inside a transaction and closed afterwards; the fetch size keeps only one
+	 * batch of rows in memory at a time, and as projections the rows are never
+	 * added to the persistence context.
+	 * 
+	 * @return a stream of all user summaries ordered by id
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new br.com.eaugusto.repository.projection.UserSummary(u.id, u.nome, u.email, u.versao) "
+			+ "FROM User u ORDER BY u.id")
+	Stream<UserSummary> streamAllSummaries();
 }
@@ -0,0 +1,48 @@
+package br.com.eaugusto.repository;
+
+import java.util.Optional;
+
+import br.com.eaugusto.repository.projection.UserUpdateResult;
+
+/**
+ * Writes of {@link IUserRepository} that return the columns they touched in the
+ * same statement. Their SQL depends on the database (see
+ * {@link ReturningStatements}).
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public interface IUserRepositoryCustom {
+
+	/**
+	 * Updates a user in a single statement, only if its version still matches,
+	 * without loading the entity first, and returns the new version with the
+	 * email the user had before. On PostgreSQL this is an
+	 * {@code UPDATE ... RETURNING} joined to the old row, which it locks
+	 * ({@code FOR UPDATE}) so that a concurrent write to the same user is waited
+	 * for and re-checked; on H2 it is {@code SELECT ... FROM OLD TABLE (UPDATE ...)}.
+	 * The password is kept when {@code senha} is null.
+	 * 
+	 * @param id     the id of the user to update
+	 * @param versao the version the client last saw
+	 * @param nome   the new name
+	 * @param email  the new normalized email
+	 * @param senha  the new password hash, or null to keep the current one
+	 * @return the new version and the previous email, or empty if the user does
+	 *         not exist or its version changed
+	 */
+	Optional<UserUpdateResult> updateIfVersionMatches(Long id, Long versao, String nome, String email,
+			String senha);
+
+	/**
+	 * Deletes a user in a single statement and returns the email it had:
+	 * {@code DELETE ... RETURNING email} on PostgreSQL,
+	 * {@code SELECT email FROM OLD TABLE (DELETE ...)} on H2. The entity is not
+	 * loaded first.
+	 * 
+	 * @param id the id of the user to delete
+	 * @return the normalized email of the deleted user, or empty if the user does
+	 *         not exist
+	 */
+	Optional<String> deleteReturningEmail(Long id);
+}
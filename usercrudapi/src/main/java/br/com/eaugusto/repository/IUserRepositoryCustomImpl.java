@@ -0,0 +1,57 @@
+package br.com.eaugusto.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import br.com.eaugusto.repository.projection.UserUpdateResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native implementation of {@link IUserRepositoryCustom}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class IUserRepositoryCustomImpl implements IUserRepositoryCustom {
+
+	private static final String UPDATE_POSTGRESQL = "UPDATE usuarios u SET nome = :nome, email = :email, "
+			+ "senha = COALESCE(:senha, u.senha), versao = u.versao + 1 "
+			+ "FROM (SELECT id, email FROM usuarios WHERE id = :id AND versao = :versao FOR UPDATE) previous "
+			+ "WHERE u.id = previous.id RETURNING u.versao, previous.email";
+
+	private static final String UPDATE_H2 = "SELECT versao + 1, email FROM OLD TABLE (UPDATE usuarios "
+			+ "SET nome = :nome, email = :email, senha = COALESCE(:senha, senha), versao = versao + 1 "
+			+ "WHERE id = :id AND versao = :versao)";
+
+	private static final String DELETE = "DELETE FROM usuarios WHERE id = :id";
+
+	private static final String DELETE_POSTGRESQL = DELETE + " RETURNING email";
+
+	private static final String DELETE_H2 = "SELECT email FROM OLD TABLE (" + DELETE + ")";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Optional<UserUpdateResult> updateIfVersionMatches(Long id, Long versao, String nome, String email,
+			String senha) {
+		String sql = ReturningStatements.forDatabase(entityManager, UPDATE_POSTGRESQL, UPDATE_H2);
+		// Typed, so that a null password still binds as text for COALESCE.
+		List<?> rows = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).setParameter("id", id)
+				.setParameter("versao", versao).setParameter("nome", nome).setParameter("email", email)
+				.setParameter("senha", senha, StandardBasicTypes.STRING).getResultList();
+		return rows.stream().findFirst().map(Object[].class::cast)
+				.map(row -> new UserUpdateResult(((Number) row[0]).longValue(), (String) row[1]));
+	}
+
+	@Override
+	public Optional<String> deleteReturningEmail(Long id) {
+		String sql = ReturningStatements.forDatabase(entityManager, DELETE_POSTGRESQL, DELETE_H2);
+		List<?> emails = entityManager.createNativeQuery(sql).setParameter("id", id).getResultList();
+		return emails.stream().findFirst().map(String.class::cast);
+	}
+}
@@ -0,0 +1,29 @@
+package br.com.eaugusto.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import br.com.eaugusto.model.UserTableVersion;
+
+/**
+ * Repository interface for the change counter of the users table. Its increment
+ * is native SQL, in {@link IUserTableVersionRepositoryCustom}.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Repository
+public interface IUserTableVersionRepository
+		extends JpaRepository<UserTableVersion, Long>, IUserTableVersionRepositoryCustom {
+
+	/**
+	 * Reads the current version of the users table.
+	 * 
+	 * @return the counter value, or empty if the row was never created
+	 */
+	@Query("SELECT v.versao FROM UserTableVersion v WHERE v.id = " + UserTableVersion.SINGLETON_ID)
+	Optional<Long> findCurrent();
+}
@@ -0,0 +1,25 @@
+package br.com.eaugusto.repository;
+
+import java.util.Optional;
+
+/**
+ * Writes of {@link IUserTableVersionRepository} that Spring Data cannot derive:
+ * their SQL depends on the database (see {@link ReturningStatements}).
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public interface IUserTableVersionRepositoryCustom {
+
+	/**
+	 * Increments the version of the users table and returns the new value in the
+	 * same statement, a single round trip: {@code UPDATE ... RETURNING} on
+	 * PostgreSQL, {@code SELECT ... FROM FINAL TABLE (UPDATE ...)} on H2. Must run
+	 * inside the transaction of the write it accounts for; the row lock it takes
+	 * serializes concurrent writes until that transaction ends.
+	 * 
+	 * @param by the number of changes made by the write
+	 * @return the new version, or empty if the row does not exist yet
+	 */
+	Optional<Long> incrementAndGet(long by);
+}
@@ -0,0 +1,34 @@
+package br.com.eaugusto.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import br.com.eaugusto.model.UserTableVersion;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native implementation of {@link IUserTableVersionRepositoryCustom}.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class IUserTableVersionRepositoryCustomImpl implements IUserTableVersionRepositoryCustom {
+
+	private static final String INCREMENT = "UPDATE usuarios_versao SET versao = versao + :by WHERE id = "
+			+ UserTableVersion.SINGLETON_ID;
+
+	private static final String INCREMENT_POSTGRESQL = INCREMENT + " RETURNING versao";
+
+	private static final String INCREMENT_H2 = "SELECT versao FROM FINAL TABLE (" + INCREMENT + ")";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Optional<Long> incrementAndGet(long by) {
+		String sql = ReturningStatements.forDatabase(entityManager, INCREMENT_POSTGRESQL, INCREMENT_H2);
+		List<?> versions = entityManager.createNativeQuery(sql).setParameter("by", by).getResultList();
+		return versions.stream().findFirst().map(version -> ((Number) version).longValue());
+	}
+}
@@ -0,0 +1,33 @@
+package br.com.eaugusto.repository;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Picks the SQL of a write that returns the columns it touched. PostgreSQL, the
+ * database of the application, does it with {@code RETURNING}, which H2, the
+ * in-memory database of the tests, lacks; H2 reads the same columns from the
+ * data change delta tables ({@code FINAL TABLE}, {@code OLD TABLE}) instead.
+ * Either way the write is a single statement.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+final class ReturningStatements {
+
+	private ReturningStatements() {
+	}
+
+	/**
+	 * @param entityManager the entity manager the statement will run on
+	 * @param postgresql    the statement for PostgreSQL
+	 * @param h2            the same statement for H2
+	 * @return the statement for the database behind {@code entityManager}
+	 */
+	static String forDatabase(EntityManager entityManager, String postgresql, String h2) {
+		return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices()
+				.getDialect() instanceof H2Dialect ? h2 : postgresql;
+	}
+}
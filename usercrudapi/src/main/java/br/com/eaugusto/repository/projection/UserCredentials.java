@@ -0,0 +1,16 @@
+package br.com.eaugusto.repository.projection;
+
+/**
+ * The columns needed to authenticate a user: the id and email to issue a token
+ * and the stored password hash to check against. Loaded instead of the full
+ * entity on login.
+ *
+ * @param id    the user id
+ * @param email the normalized user email
+ * @param senha the stored password hash
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public record UserCredentials(Long id, String email, String senha) {
+}
@@ -0,0 +1,17 @@
+package br.com.eaugusto.repository.projection;
+
+/**
+ * Read-only view of a user with only the columns shown to clients. Queries
+ * returning it select these columns directly, so the password hash is never
+ * read and no entity is placed in the persistence context.
+ *
+ * @param id     the user id
+ * @param nome   the user name
+ * @param email  the user email
+ * @param versao the row version, used as ETag
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public record UserSummary(Long id, String nome, String email, Long versao) {
+}
@@ -0,0 +1,15 @@
+package br.com.eaugusto.repository.projection;
+
+/**
+ * What a conditional update returns from the row it changed: the version the
+ * row now has and the email it had before, which the caller evicts from the
+ * email cache.
+ *
+ * @param versao        the new row version
+ * @param previousEmail the normalized email replaced by the update
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public record UserUpdateResult(Long versao, String previousEmail) {
+}
@@ -0,0 +1,213 @@
+package br.com.eaugusto.security;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.eaugusto.exception.PasswordHashingUnavailableException;
+
+/**
+ * Password encoder that runs the expensive {@code encode}/{@code matches} calls
+ * of a delegate encoder on a dedicated, bounded thread pool. Request threads
+ * only wait for the result, so at most {@code threads} hashes run at once and
+ * the remaining CPU stays available to the read endpoints. When the queue is
+ * full or the result takes longer than the configured timeout, a
+ * {@link PasswordHashingUnavailableException} is thrown.
+ * <p>
+ * Bulk work from {@link #encodeAll(List)} keeps at most
+ * {@code bulkParallelism} hashes in the pool at a time, fewer than the pool's
+ * threads, so a large import never takes every thread and queue slot from the
+ * logins running beside it.
+ * </p>
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class HashingPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final int bulkParallelism;
+
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder hashingNanos = new LongAdder();
+	private final LongAdder queueWaitNanos = new LongAdder();
+
+	public HashingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis) {
+		this(delegate, threads, queueCapacity, timeoutMillis, Math.max(1, threads / 2));
+	}
+
+	public HashingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis,
+			int bulkParallelism) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate PasswordEncoder cannot be null.");
+		}
+		if (threads < 1 || queueCapacity < 1 || timeoutMillis < 1) {
+			throw new IllegalArgumentException("Hashing pool threads, queue capacity and timeout must be positive.");
+		}
+		if (bulkParallelism < 1 || bulkParallelism > threads) {
+			throw new IllegalArgumentException("Bulk hashing parallelism must be between 1 and the pool threads.");
+		}
+		this.delegate = delegate;
+		this.timeoutMillis = timeoutMillis;
+		this.bulkParallelism = bulkParallelism;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * Encodes many passwords in parallel, one task per password, with at most
+	 * {@code bulkParallelism} of them submitted at a time. Each task is queued
+	 * behind the logins already waiting, so a login waits for at most that many
+	 * bulk hashes, and each one is bounded by the same timeout as a single hash.
+	 * 
+	 * @param rawPasswords the passwords to encode
+	 * @return the encoded passwords, in the same order
+	 */
+	public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+		List<String> encoded = new ArrayList<>(rawPasswords.size());
+		Deque<Future<String>> window = new ArrayDeque<>(bulkParallelism);
+		try {
+			for (CharSequence rawPassword : rawPasswords) {
+				if (window.size() == bulkParallelism) {
+					encoded.add(await(window.poll(), timeoutMillis));
+				}
+				window.add(submit(() -> delegate.encode(rawPassword)));
+			}
+			while (!window.isEmpty()) {
+				encoded.add(await(window.poll(), timeoutMillis));
+			}
+		} finally {
+			window.forEach(future -> future.cancel(true));
+		}
+		return encoded;
+	}
+
+	/**
+	 * Encodes many passwords, in parallel when the encoder is a
+	 * {@link HashingPasswordEncoder} and one by one otherwise.
+	 * 
+	 * @param encoder      the encoder to use
+	 * @param rawPasswords the passwords to encode
+	 * @return the encoded passwords, in the same order
+	 */
+	public static List<String> encodeAll(PasswordEncoder encoder, List<? extends CharSequence> rawPasswords) {
+		if (encoder instanceof HashingPasswordEncoder hashing) {
+			return hashing.encodeAll(rawPasswords);
+		}
+		return rawPasswords.stream().map(encoder::encode).toList();
+	}
+
+	/** @return number of hashing tasks waiting for a free thread */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/** @return number of hashing tasks currently running */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/** @return number of hashing tasks finished since startup */
+	public long getCompletedCount() {
+		return completed.sum();
+	}
+
+	/** @return number of hashing tasks rejected because the pool was saturated */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/** @return total time spent hashing, in nanoseconds */
+	public long getTotalHashingNanos() {
+		return hashingNanos.sum();
+	}
+
+	/** @return total time tasks spent waiting in the queue, in nanoseconds */
+	public long getTotalQueueWaitNanos() {
+		return queueWaitNanos.sum();
+	}
+
+	/**
+	 * Stops accepting new hashing work. Called by Spring on context shutdown.
+	 */
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T run(Callable<T> task) {
+		return await(submit(task), timeoutMillis);
+	}
+
+	private <T> Future<T> submit(Callable<T> task) {
+		long submittedAt = System.nanoTime();
+		try {
+			return executor.submit(() -> {
+				long startedAt = System.nanoTime();
+				queueWaitNanos.add(startedAt - submittedAt);
+				try {
+					return task.call();
+				} finally {
+					hashingNanos.add(System.nanoTime() - startedAt);
+					completed.increment();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new PasswordHashingUnavailableException("Password hashing pool is saturated", e);
+		}
+	}
+
+	private static <T> T await(Future<T> future, long timeoutMillis) {
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new PasswordHashingUnavailableException("Password hashing timed out", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new PasswordHashingUnavailableException("Interrupted while waiting for password hashing", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new PasswordHashingUnavailableException("Password hashing failed", e.getCause());
+		}
+	}
+}
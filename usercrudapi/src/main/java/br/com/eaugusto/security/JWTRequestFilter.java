@@ -1,8 +1,11 @@
 package br.com.eaugusto.security;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,6 +13,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,9 +25,11 @@ import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Servlet filter that intercepts incoming requests to validate JWT tokens.
- * Skips authentication for /api/bootstrap and /api/auth/login endpoints. Sets
- * security context with user email and role if token is valid. Responds with
- * 401 Unauthorized if token is missing or invalid.
+ * Skips the routes listed in {@link PublicRoutes}. Sets security context with
+ * user email and role if token is valid. Responds with 401 Unauthorized, from a
+ * pre-encoded body, if token is missing or invalid. Every outcome is counted in
+ * the {@code jwt.validations} meter, tagged valid, expired, revoked, malformed,
+ * invalid (bad signature) or missing. Refresh tokens are not accepted here.
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 11, 2025
@@ -27,49 +37,94 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JWTRequestFilter extends OncePerRequestFilter {
 
+	private static final String VALIDATIONS_METER = "jwt.validations";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String TEXT_PLAIN_UTF8 = "text/plain;charset=UTF-8";
+	private static final byte[] INVALID_TOKEN_BODY = "Invalid JWT token".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] MISSING_TOKEN_BODY = "Missing JWT token".getBytes(StandardCharsets.UTF_8);
+
 	private final JWTUtil jwtUtil;
+	private final Counter validTokens;
+	private final Counter expiredTokens;
+	private final Counter revokedTokens;
+	private final Counter malformedTokens;
+	private final Counter invalidTokens;
+	private final Counter missingTokens;
+	private final int managementPort;
 
-	public JWTRequestFilter(JWTUtil jwtUtil) {
+	public JWTRequestFilter(JWTUtil jwtUtil, MeterRegistry meterRegistry,
+			@Value(PublicRoutes.MANAGEMENT_PORT) int managementPort) {
 		this.jwtUtil = jwtUtil;
+		this.managementPort = managementPort;
+		this.validTokens = outcomeCounter(meterRegistry, "valid");
+		this.expiredTokens = outcomeCounter(meterRegistry, "expired");
+		this.revokedTokens = outcomeCounter(meterRegistry, "revoked");
+		this.malformedTokens = outcomeCounter(meterRegistry, "malformed");
+		this.invalidTokens = outcomeCounter(meterRegistry, "invalid");
+		this.missingTokens = outcomeCounter(meterRegistry, "missing");
+	}
+
+	private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder(VALIDATIONS_METER).tag("outcome", outcome)
+				.description("JWT validations by outcome").register(meterRegistry);
 	}
 
 	@Override
 	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
 			@NonNull FilterChain filterChain) throws ServletException, IOException {
 
-		String path = request.getRequestURI();
-		if (path.equals("/api/bootstrap") || path.equals("/api/auth/login")) {
-			filterChain.doFilter(request, response);
-			return;
-		}
-
-		String authHeader = request.getHeader("Authorization");
+		String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-		if (request.getRequestURI().startsWith("/api/auth/login")) {
-			filterChain.doFilter(request, response);
-			return;
-		}
-
-		if (authHeader != null && authHeader.startsWith("Bearer ")) {
-			String token = authHeader.substring(7);
+		if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+			String token = authHeader.substring(BEARER_PREFIX.length());
 			try {
 				String email = jwtUtil.extractEmail(token);
 
 				UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(email,
 						null, List.of(new SimpleGrantedAuthority("USER")));
 				SecurityContextHolder.getContext().setAuthentication(authentication);
+				validTokens.increment();
 
 			} catch (Exception e) {
-				response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-				response.getWriter().write("Invalid JWT token");
+				failureCounter(e).increment();
+				unauthorized(response, INVALID_TOKEN_BODY);
 				return;
 			}
 		} else {
-			response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-			response.getWriter().write("Missing JWT token");
+			missingTokens.increment();
+			unauthorized(response, MISSING_TOKEN_BODY);
 			return;
 		}
 
 		filterChain.doFilter(request, response);
 	}
+
+	/**
+	 * Public routes, listed in {@link PublicRoutes}, are never filtered.
+	 */
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		return PublicRoutes.matches(request, managementPort);
+	}
+
+	private static void unauthorized(HttpServletResponse response, byte[] body) throws IOException {
+		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		response.setContentType(TEXT_PLAIN_UTF8);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private Counter failureCounter(Exception exception) {
+		if (exception instanceof ExpiredJwtException) {
+			return expiredTokens;
+		}
+		if (exception instanceof RevokedJwtException) {
+			return revokedTokens;
+		}
+		if (exception instanceof MalformedJwtException || exception instanceof UnsupportedJwtException
+				|| exception instanceof IllegalArgumentException) {
+			return malformedTokens;
+		}
+		return invalidTokens;
+	}
 }
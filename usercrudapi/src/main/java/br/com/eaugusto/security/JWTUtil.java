@@ -4,20 +4,51 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 import br.com.eaugusto.exception.JWTKeyGenerationException;
 import br.com.eaugusto.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 
 /**
  * Utility class for generating and parsing JWT tokens. Uses the database
  * password as the secret key for signing tokens.
+ * <p>
+ * Parsing goes through a single, thread-safe {@link JwtParser} and verified
+ * tokens are remembered in a bounded cache keyed by the SHA-256 digest of the
+ * token, so a client re-sending the same token skips the HMAC check and claim
+ * decoding. Each entry expires together with the token's {@code exp} claim.
+ * </p>
+ * <p>
+ * Two kinds of tokens are issued, told apart by the {@value #TYPE_CLAIM}
+ * claim: short-lived access tokens, sent as bearer tokens, and long-lived
+ * refresh tokens, only exchanged for a new pair at {@code /api/auth/refresh}.
+ * Both carry a random {@code jti}. An access token can be revoked before it
+ * expires (see {@link TokenRevocationList}); the revocation check also runs on
+ * cached tokens. A refresh token also names its login session in the
+ * {@value #FAMILY_CLAIM} claim and is accepted only while it is the current
+ * token of that session (see {@link RefreshTokenFamilies}), so spent refresh
+ * tokens never need to be listed. Tokens issued before the claims existed are
+ * read as access tokens without an id and stay valid until they expire.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 11, 2025
@@ -25,11 +56,47 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JWTUtil {
 
+	/** Claim telling access tokens from refresh tokens. */
+	public static final String TYPE_CLAIM = "typ";
+
+	/** Claim naming the login session a refresh token descends from. */
+	public static final String FAMILY_CLAIM = "fam";
+
 	private final Key key;
-	private static final int ONEDAYINMILLISECONDS = 86_400_000;
+	private final JwtParser parser;
+	private final Cache<String, VerifiedToken> verifiedTokens;
+	private final Duration accessTokenTtl;
+	private final Duration refreshTokenTtl;
+	private final TokenRevocationList revocations;
+	private final RefreshTokenFamilies families;
 
-	public JWTUtil(@Value("${spring.datasource.password}") String dbPassword) {
+	@Autowired
+	public JWTUtil(@Value("${spring.datasource.password}") String dbPassword,
+			@Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+			@Value("${jwt.access-token.ttl:15m}") Duration accessTokenTtl,
+			@Value("${jwt.refresh-token.ttl:14d}") Duration refreshTokenTtl, TokenRevocationList revocations,
+			RefreshTokenFamilies families) {
+		if (accessTokenTtl == null || accessTokenTtl.isNegative() || accessTokenTtl.isZero()) {
+			throw new IllegalArgumentException("Access token TTL must be positive.");
+		}
+		if (refreshTokenTtl == null || refreshTokenTtl.compareTo(accessTokenTtl) < 0) {
+			throw new IllegalArgumentException("Refresh token TTL cannot be shorter than the access token TTL.");
+		}
+		if (revocations == null) {
+			throw new IllegalArgumentException("TokenRevocationList cannot be null.");
+		}
+		if (families == null) {
+			throw new IllegalArgumentException("RefreshTokenFamilies cannot be null.");
+		}
 		this.key = deriveKeyFromPassword(dbPassword);
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.verifiedTokens = Caffeine.newBuilder().maximumSize(cacheMaxSize)
+				.expireAfter(Expiry.creating((String digest, VerifiedToken token) -> token.timeToLive()))
+				.recordStats().build();
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
+		this.revocations = revocations;
+		this.families = families;
 	}
 
 	private Key deriveKeyFromPassword(String password) {
@@ -43,12 +110,211 @@ public class JWTUtil {
 	}
 
 	public String generateToken(User user) {
-		return Jwts.builder().setSubject(user.getEmail()).setIssuedAt(new Date())
-				.setExpiration(new Date(System.currentTimeMillis() + ONEDAYINMILLISECONDS))
+		return generateToken(user.getEmail());
+	}
+
+	/**
+	 * Issues an access token for the given email, valid for
+	 * {@code jwt.access-token.ttl}.
+	 * 
+	 * @param email the email stored in the token subject
+	 * @return the compact, signed JWT
+	 */
+	public String generateToken(String email) {
+		return issue(email, TokenType.ACCESS, accessTokenTtl, UUID.randomUUID().toString(), null);
+	}
+
+	/**
+	 * Issues the first refresh token of a new login session for the given email,
+	 * valid for {@code jwt.refresh-token.ttl}.
+	 * 
+	 * @param email the email stored in the token subject
+	 * @return the compact, signed JWT
+	 */
+	public String generateRefreshToken(String email) {
+		String family = UUID.randomUUID().toString();
+		String id = UUID.randomUUID().toString();
+		families.start(family, id);
+		return issue(email, TokenType.REFRESH, refreshTokenTtl, id, family);
+	}
+
+	/**
+	 * Issues the refresh token that replaces {@code current} in its session;
+	 * {@code current} is no longer accepted afterwards.
+	 * 
+	 * @param current a refresh token returned by {@link #verifyRefreshToken}
+	 * @return the compact, signed JWT
+	 * @throws RevokedJwtException if {@code current} was exchanged meanwhile, by
+	 *                             a concurrent refresh, or its session ended
+	 */
+	public String rotateRefreshToken(VerifiedToken current) {
+		String id = UUID.randomUUID().toString();
+		if (!families.rotate(current.family(), current.id(), id)) {
+			throw new RevokedJwtException("Refresh token has already been used");
+		}
+		return issue(current.subject(), TokenType.REFRESH, refreshTokenTtl, id, current.family());
+	}
+
+	private String issue(String email, TokenType type, Duration ttl, String id, String family) {
+		long now = System.currentTimeMillis();
+		JwtBuilder builder = Jwts.builder().setSubject(email).setId(id).claim(TYPE_CLAIM, type.claim);
+		if (family != null) {
+			builder.claim(FAMILY_CLAIM, family);
+		}
+		return builder.setIssuedAt(new Date(now)).setExpiration(new Date(now + ttl.toMillis()))
 				.signWith(key, SignatureAlgorithm.HS256).compact();
 	}
 
+	/**
+	 * Returns the subject of an access token, verifying its signature and
+	 * expiration only the first time it is seen.
+	 * 
+	 * @param token the compact JWT sent by the client
+	 * @return the email stored in the token subject
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid, expired,
+	 *                                      revoked or not an access token
+	 */
 	public String extractEmail(String token) {
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+		return verifyAccessToken(token).subject();
+	}
+
+	/**
+	 * Verifies an access token, going through the verified-token cache.
+	 * 
+	 * @param token the compact JWT sent by the client
+	 * @return the verified token
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid, expired,
+	 *                                      revoked or not an access token
+	 */
+	public VerifiedToken verifyAccessToken(String token) {
+		String digest = digest(token);
+		VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+		if (verified == null) {
+			verified = verify(token, TokenType.ACCESS);
+			if (verified.expiresAtMillis() != Long.MAX_VALUE) {
+				verifiedTokens.put(digest, verified);
+			}
+		}
+		if (revocations.isRevoked(verified.id())) {
+			throw new RevokedJwtException("Token has been revoked");
+		}
+		return verified;
+	}
+
+	/**
+	 * Verifies a refresh token. Refresh tokens are checked on every use and never
+	 * cached, since each is used only once: it must still be the current token of
+	 * its session.
+	 * 
+	 * @param token the compact JWT sent by the client
+	 * @return the verified token
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid, expired,
+	 *                                      spent, revoked or not a refresh token
+	 */
+	public VerifiedToken verifyRefreshToken(String token) {
+		VerifiedToken verified = verify(token, TokenType.REFRESH);
+		if (!families.isCurrent(verified.family(), verified.id())) {
+			throw new RevokedJwtException("Token has been revoked");
+		}
+		return verified;
+	}
+
+	/**
+	 * Revokes a verified token until it expires. Revoking a refresh token ends
+	 * its whole session.
+	 * 
+	 * @param token the token to revoke
+	 * @return whether this call revoked it; false if it was already revoked or
+	 *         cannot be revoked because it has no id
+	 */
+	public boolean revoke(VerifiedToken token) {
+		if (token.type() == TokenType.REFRESH) {
+			boolean current = families.isCurrent(token.family(), token.id());
+			families.end(token.family());
+			return current;
+		}
+		return revocations.revoke(token.id(), token.expiresAtMillis());
+	}
+
+	/**
+	 * @return how long refresh tokens are valid
+	 */
+	public Duration getRefreshTokenTtl() {
+		return refreshTokenTtl;
+	}
+
+	private VerifiedToken verify(String token, TokenType expected) {
+		Claims claims = parser.parseClaimsJws(token).getBody();
+		TokenType type = TokenType.fromClaim(claims.get(TYPE_CLAIM, String.class));
+		if (type != expected) {
+			throw new UnsupportedJwtException("Expected a " + expected.claim + " token");
+		}
+		long expiresAtMillis = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+		return new VerifiedToken(claims.getSubject(), claims.getId(), type, expiresAtMillis,
+				claims.get(FAMILY_CLAIM, String.class));
+	}
+
+	/**
+	 * Hit/miss/eviction counters of the verified-token cache.
+	 * 
+	 * @return a snapshot of the cache statistics
+	 */
+	public CacheStats getTokenCacheStats() {
+		return verifiedTokens.stats();
+	}
+
+	/**
+	 * Approximate number of verified tokens currently cached.
+	 * 
+	 * @return the estimated cache size
+	 */
+	public long getTokenCacheSize() {
+		return verifiedTokens.estimatedSize();
+	}
+
+	private static String digest(String token) {
+		try {
+			byte[] hashed = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().withoutPadding().encodeToString(hashed);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Kind of a token, stored in its {@value JWTUtil#TYPE_CLAIM} claim.
+	 */
+	public enum TokenType {
+
+		ACCESS("access"), REFRESH("refresh");
+
+		private final String claim;
+
+		TokenType(String claim) {
+			this.claim = claim;
+		}
+
+		/** Tokens without the claim predate refresh tokens and are access tokens. */
+		static TokenType fromClaim(String claim) {
+			if (claim == null || ACCESS.claim.equals(claim)) {
+				return ACCESS;
+			}
+			if (REFRESH.claim.equals(claim)) {
+				return REFRESH;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * A token whose signature has already been checked: its subject, its
+	 * {@code jti} (null for tokens issued before ids existed), its type, the
+	 * instant it stops being valid and, for refresh tokens, its session.
+	 */
+	public record VerifiedToken(String subject, String id, TokenType type, long expiresAtMillis, String family) {
+
+		Duration timeToLive() {
+			return Duration.ofMillis(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+		}
 	}
 }
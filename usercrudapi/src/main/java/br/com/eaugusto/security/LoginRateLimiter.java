@@ -0,0 +1,158 @@
+package br.com.eaugusto.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.eaugusto.exception.TooManyLoginAttemptsException;
+
+/**
+ * In-process rate limiter for login attempts, keyed by client IP and by email.
+ * Each key owns a token bucket holding up to {@code capacity} attempts, refilled
+ * continuously over {@code refill-period}. Login checks it before looking up the
+ * user, so a rejected attempt never reaches BCrypt.
+ * <p>
+ * Every attempt costs its IP one token. The email's token is taken up front as
+ * well, so a concurrent flood can never run more password checks than the
+ * bucket holds, but a successful login gives it back: only failed attempts
+ * count against an account, and its owner logging in often is never locked out.
+ * Token refreshes, public like logins, take from the IP bucket too.
+ * </p>
+ * <p>
+ * A bucket is a single {@link AtomicLong} holding the instant at which it will
+ * be full again (the GCRA form of a token bucket), updated with compare-and-set,
+ * so concurrent attempts never block each other. Buckets live in size-bounded
+ * Caffeine caches and are dropped once idle for a full refill period, when they
+ * would be full anyway.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Component
+public class LoginRateLimiter {
+
+	private final Limit ipLimit;
+	private final Limit emailLimit;
+	private final Cache<String, AtomicLong> ipBuckets;
+	private final Cache<String, AtomicLong> emailBuckets;
+	private final LongSupplier nanoClock;
+
+	@Autowired
+	public LoginRateLimiter(@Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+			@Value("${security.login.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+			@Value("${security.login.rate-limit.email.capacity:5}") int emailCapacity,
+			@Value("${security.login.rate-limit.email.refill-period:5m}") Duration emailRefillPeriod,
+			@Value("${security.login.rate-limit.max-keys:100000}") long maxKeys) {
+		this(ipCapacity, ipRefillPeriod, emailCapacity, emailRefillPeriod, maxKeys, System::nanoTime);
+	}
+
+	/**
+	 * Creates a limiter reading time from {@code nanoClock}, a
+	 * {@link System#nanoTime()}-like source, so tests can control refills.
+	 */
+	public LoginRateLimiter(int ipCapacity, Duration ipRefillPeriod, int emailCapacity, Duration emailRefillPeriod,
+			long maxKeys, LongSupplier nanoClock) {
+		if (nanoClock == null) {
+			throw new IllegalArgumentException("Clock cannot be null.");
+		}
+		this.ipLimit = new Limit(ipCapacity, ipRefillPeriod);
+		this.emailLimit = new Limit(emailCapacity, emailRefillPeriod);
+		this.ipBuckets = newBuckets(maxKeys, ipRefillPeriod);
+		this.emailBuckets = newBuckets(maxKeys, emailRefillPeriod);
+		this.nanoClock = nanoClock;
+	}
+
+	private static Cache<String, AtomicLong> newBuckets(long maxKeys, Duration refillPeriod) {
+		if (maxKeys < 1) {
+			throw new IllegalArgumentException("Rate limiter max keys must be positive.");
+		}
+		return Caffeine.newBuilder().maximumSize(maxKeys).expireAfterAccess(refillPeriod).build();
+	}
+
+	/**
+	 * Takes one attempt from the client's IP bucket and, when given, from the
+	 * email's bucket.
+	 *
+	 * @param clientIp the remote address of the request
+	 * @param email    the email being logged into, may be null
+	 * @throws TooManyLoginAttemptsException if either bucket is empty
+	 */
+	public void checkLoginAttempt(String clientIp, String email) {
+		long now = nanoClock.getAsLong();
+		acquire(ipBuckets, ipLimit, clientIp == null ? "" : clientIp, now);
+		if (email != null && !email.isBlank()) {
+			acquire(emailBuckets, emailLimit, email.trim().toLowerCase(Locale.ROOT), now);
+		}
+	}
+
+	/**
+	 * Takes one attempt from the client's IP bucket for a token refresh.
+	 *
+	 * @param clientIp the remote address of the request
+	 * @throws TooManyLoginAttemptsException if the bucket is empty
+	 */
+	public void checkRefreshAttempt(String clientIp) {
+		acquire(ipBuckets, ipLimit, clientIp == null ? "" : clientIp, nanoClock.getAsLong());
+	}
+
+	/**
+	 * Gives back the email's attempt taken by
+	 * {@link #checkLoginAttempt(String, String)}, once its password matched.
+	 *
+	 * @param email the email that logged in, may be null
+	 */
+	public void recordSuccessfulLogin(String email) {
+		if (email == null || email.isBlank()) {
+			return;
+		}
+		AtomicLong fullAt = emailBuckets.getIfPresent(email.trim().toLowerCase(Locale.ROOT));
+		if (fullAt != null) {
+			fullAt.addAndGet(-emailLimit.intervalNanos);
+		}
+	}
+
+	private static void acquire(Cache<String, AtomicLong> buckets, Limit limit, String key, long now) {
+		AtomicLong fullAt = buckets.get(key, ignored -> new AtomicLong(now));
+		while (true) {
+			long current = fullAt.get();
+			long next = Math.max(current, now) + limit.intervalNanos;
+			long waitNanos = next - now - limit.burstNanos;
+			if (waitNanos > 0) {
+				long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+				throw new TooManyLoginAttemptsException(
+						"Muitas tentativas de login. Tente novamente em " + retryAfterSeconds + " segundos.",
+						retryAfterSeconds);
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Bucket size and the time it takes to refill one attempt.
+	 */
+	private static final class Limit {
+
+		private final long intervalNanos;
+		private final long burstNanos;
+
+		Limit(int capacity, Duration refillPeriod) {
+			if (capacity < 1 || refillPeriod == null || refillPeriod.isNegative() || refillPeriod.isZero()) {
+				throw new IllegalArgumentException("Rate limit capacity and refill period must be positive.");
+			}
+			this.intervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+			this.burstNanos = intervalNanos * capacity;
+		}
+	}
+}
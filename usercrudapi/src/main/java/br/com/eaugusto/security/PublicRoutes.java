@@ -0,0 +1,47 @@
+package br.com.eaugusto.security;
+
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Routes reachable without a JWT. Used both by {@link WebSecurityConfig} to
+ * permit them and by {@link JWTRequestFilter} to skip token validation, so the
+ * two can never disagree. Matching is a single hash lookup on the request path.
+ * <p>
+ * The Prometheus scrape endpoint is public only on the separate management
+ * port ({@code management.server.port}), which is meant to be reachable from
+ * the monitoring network alone. Without one, or on the application port, it
+ * needs a token like every other actuator endpoint but health.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public final class PublicRoutes {
+
+	/** The management port, or -1 when actuator shares the application port. */
+	public static final String MANAGEMENT_PORT = "${management.server.port:-1}";
+
+	private static final Set<String> PATHS = Set.of("/api/auth/login", "/api/auth/refresh",
+			"/api/auth/logout", "/api/bootstrap", "/actuator/health");
+
+	private static final Set<String> MANAGEMENT_PATHS = Set.of("/actuator/prometheus");
+
+	private PublicRoutes() {
+	}
+
+	/**
+	 * @param request        the incoming request
+	 * @param managementPort the management port, or a non-positive value when
+	 *                       there is none
+	 * @return whether the request targets a public route
+	 */
+	public static boolean matches(HttpServletRequest request, int managementPort) {
+		String uri = request.getRequestURI();
+		int contextLength = request.getContextPath().length();
+		String path = contextLength == 0 ? uri : uri.substring(contextLength);
+		return PATHS.contains(path)
+				|| managementPort > 0 && request.getLocalPort() == managementPort && MANAGEMENT_PATHS.contains(path);
+	}
+}
@@ -0,0 +1,95 @@
+package br.com.eaugusto.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Current refresh token of every login session. A login starts a family,
+ * named by the {@value JWTUtil#FAMILY_CLAIM} claim that every refresh token
+ * descended from it carries, and each refresh replaces the family's current
+ * {@code jti} with that of the token it issues. Only the current token of a
+ * family is accepted, so a spent one fails without being remembered: memory
+ * holds one entry per session, however often it refreshes.
+ * <p>
+ * The map is bounded by {@code jwt.refresh-token.max-families} and fails
+ * closed: a family evicted to make room, or lost on restart, can no longer
+ * refresh, and its user logs in again. Entries expire with the refresh token
+ * they name. Like {@link TokenRevocationList}, this lives in one instance.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Component
+public class RefreshTokenFamilies {
+
+	private final Cache<String, String> currentIds;
+
+	public RefreshTokenFamilies(@Value("${jwt.refresh-token.max-families:100000}") long maxFamilies,
+			@Value("${jwt.refresh-token.ttl:14d}") Duration ttl) {
+		if (maxFamilies < 1) {
+			throw new IllegalArgumentException("Refresh token family limit must be positive.");
+		}
+		if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("Refresh token TTL must be positive.");
+		}
+		// Evicting on the writing thread keeps the map within its bound at all times.
+		this.currentIds = Caffeine.newBuilder().maximumSize(maxFamilies).expireAfterWrite(ttl)
+				.executor(Runnable::run).build();
+	}
+
+	/**
+	 * Starts a family whose current token is {@code id}.
+	 *
+	 * @param family the id of the new family
+	 * @param id     the {@code jti} of its first refresh token
+	 */
+	public void start(String family, String id) {
+		currentIds.put(family, id);
+	}
+
+	/**
+	 * @param family the family a refresh token belongs to, may be null
+	 * @param id     the {@code jti} of the token, may be null
+	 * @return whether the token is the current one of a live family
+	 */
+	public boolean isCurrent(String family, String id) {
+		return family != null && id != null && id.equals(currentIds.getIfPresent(family));
+	}
+
+	/**
+	 * Makes {@code next} the current token of the family, provided {@code spent}
+	 * still is. Of concurrent rotations of one token, only one succeeds.
+	 *
+	 * @param family the family of the token being exchanged
+	 * @param spent  the {@code jti} of the token being exchanged
+	 * @param next   the {@code jti} of the token replacing it
+	 * @return whether the rotation happened
+	 */
+	public boolean rotate(String family, String spent, String next) {
+		return family != null && spent != null && currentIds.asMap().replace(family, spent, next);
+	}
+
+	/**
+	 * Ends a family, so none of its refresh tokens is accepted any more.
+	 *
+	 * @param family the family to end, may be null
+	 */
+	public void end(String family) {
+		if (family != null) {
+			currentIds.invalidate(family);
+		}
+	}
+
+	/**
+	 * @return the approximate number of live families
+	 */
+	public long size() {
+		return currentIds.estimatedSize();
+	}
+}
@@ -0,0 +1,21 @@
+package br.com.eaugusto.security;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Exception thrown when a correctly signed, unexpired token has been revoked:
+ * an access token listed in the {@link TokenRevocationList} at logout, or a
+ * refresh token that is no longer the current one of its session (see
+ * {@link RefreshTokenFamilies}).
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public class RevokedJwtException extends JwtException {
+
+	private static final long serialVersionUID = 1L;
+
+	public RevokedJwtException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,166 @@
+package br.com.eaugusto.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * In-memory set of revoked token ids ({@code jti}), checked on every
+ * authenticated request. Each id is kept only until the token it revokes
+ * expires, after which the signature check rejects the token anyway.
+ * <p>
+ * Almost no token that is checked has been revoked, so the exact set sits
+ * behind a Bloom filter: a lookup probes {@value #HASHES} bits of a fixed-size
+ * array and, unless all of them are set, answers without touching the set.
+ * The filter cannot forget ids, so once it has taken more ids than it was
+ * sized for it is rebuilt from the ids still in the set. Revocations are rare
+ * and serialized; lookups never lock.
+ * </p>
+ * <p>
+ * The list lives in this instance only. Behind a load balancer, a revoked
+ * token is still accepted by the other instances until it expires.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Component
+public class TokenRevocationList {
+
+	/** Bit probes per id; with {@value #BITS_PER_ID} bits per id, about 1% false positives. */
+	private static final int HASHES = 7;
+	private static final int BITS_PER_ID = 10;
+
+	private final int capacity;
+	private final Cache<String, Long> revoked;
+	private volatile BloomFilter filter;
+	private int filterIds;
+	private int filterCapacity;
+
+	public TokenRevocationList(@Value("${jwt.revocation.capacity:100000}") int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Revocation list capacity must be positive.");
+		}
+		this.capacity = capacity;
+		this.revoked = Caffeine.newBuilder()
+				.expireAfter(Expiry.creating((String id, Long expiresAtMillis) -> Duration
+						.ofMillis(Math.max(0, expiresAtMillis - System.currentTimeMillis()))))
+				.build();
+		this.filter = new BloomFilter(capacity);
+		this.filterCapacity = capacity;
+	}
+
+	/**
+	 * Revokes a token until it expires.
+	 *
+	 * @param id              the {@code jti} of the token
+	 * @param expiresAtMillis when the token expires, in epoch milliseconds
+	 * @return whether the token was revoked by this call; false if it had already
+	 *         been revoked, has already expired or has no id
+	 */
+	public synchronized boolean revoke(String id, long expiresAtMillis) {
+		if (id == null || expiresAtMillis <= System.currentTimeMillis()) {
+			return false;
+		}
+		if (revoked.asMap().putIfAbsent(id, expiresAtMillis) != null) {
+			return false;
+		}
+		if (++filterIds > filterCapacity) {
+			rebuildFilter();
+		} else {
+			filter.add(id);
+		}
+		return true;
+	}
+
+	/**
+	 * @param id the {@code jti} of a token, may be null
+	 * @return whether the token has been revoked and has not expired yet
+	 */
+	public boolean isRevoked(String id) {
+		return id != null && filter.mightContain(id) && revoked.getIfPresent(id) != null;
+	}
+
+	/**
+	 * @return the approximate number of revoked tokens not yet expired
+	 */
+	public long size() {
+		return revoked.estimatedSize();
+	}
+
+	/**
+	 * Replaces the filter with one holding only the ids still revoked, sized for
+	 * at least twice as many, so rebuilds stay rare while many tokens are
+	 * revoked. The new filter is filled before it is published.
+	 */
+	private void rebuildFilter() {
+		revoked.cleanUp();
+		int live = revoked.asMap().size();
+		int sizedFor = (int) Math.min(Integer.MAX_VALUE, Math.max(capacity, 2L * live));
+		BloomFilter rebuilt = new BloomFilter(sizedFor);
+		revoked.asMap().keySet().forEach(rebuilt::add);
+		filter = rebuilt;
+		filterIds = live;
+		filterCapacity = sizedFor;
+	}
+
+	/**
+	 * Bloom filter over strings, using double hashing of a 64-bit hash to derive
+	 * the {@value TokenRevocationList#HASHES} bit positions.
+	 */
+	private static final class BloomFilter {
+
+		private final AtomicLongArray words;
+		private final long bits;
+
+		BloomFilter(int expectedIds) {
+			int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, ((long) expectedIds * BITS_PER_ID + 63) / 64);
+			this.words = new AtomicLongArray(wordCount);
+			this.bits = wordCount * 64L;
+		}
+
+		void add(String id) {
+			long hash1 = hash(id);
+			long hash2 = mix(hash1) | 1;
+			for (int i = 0; i < HASHES; i++) {
+				long bit = Math.floorMod(hash1 + i * hash2, bits);
+				words.accumulateAndGet((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+			}
+		}
+
+		boolean mightContain(String id) {
+			long hash1 = hash(id);
+			long hash2 = mix(hash1) | 1;
+			for (int i = 0; i < HASHES; i++) {
+				long bit = Math.floorMod(hash1 + i * hash2, bits);
+				if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/** 64-bit FNV-1a over the characters, finished with a mixing step. */
+		private static long hash(String id) {
+			long hash = 0xcbf29ce484222325L;
+			for (int i = 0; i < id.length(); i++) {
+				hash ^= id.charAt(i);
+				hash *= 0x100000001b3L;
+			}
+			return mix(hash);
+		}
+
+		/** The finalizer of SplitMix64. */
+		private static long mix(long value) {
+			value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+			value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+			return value ^ (value >>> 31);
+		}
+	}
+}
@@ -2,8 +2,10 @@ package br.com.eaugusto.security;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -13,6 +15,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import br.com.eaugusto.controller.UserController;
+import jakarta.servlet.DispatcherType;
+
 /**
  * Spring security configuration class. Configures JWT authentication filter,
  * stateless session management, CORS rules, and publicly accessible endpoints.
@@ -25,9 +30,12 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class WebSecurityConfig {
 
 	private final JWTRequestFilter jwtRequestFilter;
+	private final int managementPort;
 
-	public WebSecurityConfig(JWTRequestFilter jwtRequestFilter) {
+	public WebSecurityConfig(JWTRequestFilter jwtRequestFilter,
+			@Value(PublicRoutes.MANAGEMENT_PORT) int managementPort) {
 		this.jwtRequestFilter = jwtRequestFilter;
+		this.managementPort = managementPort;
 	}
 
 	@Bean
@@ -35,8 +43,11 @@ public class WebSecurityConfig {
 		http.csrf(csrf -> csrf.disable()).cors(cors -> {
 		}).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.httpBasic(AbstractHttpConfigurer::disable).formLogin(AbstractHttpConfigurer::disable)
-				.authorizeHttpRequests(auth -> auth.requestMatchers("/api/auth/login", "/api/bootstrap").permitAll()
-						.anyRequest().authenticated());
+				.authorizeHttpRequests(auth -> auth
+						.requestMatchers(request -> PublicRoutes.matches(request, managementPort)).permitAll()
+						// Long-poll responses are written in an ASYNC dispatch of a request
+						// already authorized on arrival; the stateless JWT is not re-read there.
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll().anyRequest().authenticated());
 
 		http.addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -49,6 +60,8 @@ public class WebSecurityConfig {
 		configuration.setAllowedOrigins(List.of("http://localhost:5173"));
 		configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
 		configuration.setAllowedHeaders(List.of("*"));
+		configuration.setExposedHeaders(
+				List.of(UserController.NEXT_CURSOR_HEADER, HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER));
 		configuration.setAllowCredentials(true);
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", configuration);
@@ -1,9 +1,14 @@
 package br.com.eaugusto.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import br.com.eaugusto.model.User;
+import br.com.eaugusto.model.UserChangeEvent;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.repository.projection.UserSummary;
 
 /**
  * Defines operations for managing users in the system.
@@ -15,11 +20,33 @@ public interface IUserService {
 
 	User saveUser(User user);
 
+	List<UserImportResult> importUsers(List<User> users, int firstRow);
+
 	List<User> getAllUsers();
 
-	Optional<User> getUserById(Long id);
+	List<UserSummary> getUsersPage(Long after, int limit);
+
+	List<UserSummary> searchUsers(String query, Long after, int limit);
+
+	void forEachUser(Consumer<UserSummary> action);
+
+	Optional<UserSummary> getUserById(Long id);
+
+	List<UserSummary> getUsersByIds(Collection<Long> ids);
+
+	Optional<UserCredentials> findCredentialsByEmail(String email);
+
+	void upgradePasswordIfNeeded(UserCredentials credentials, String rawPassword);
 
 	User updateUser(Long id, User updatedUser);
 
+	User updateUserIfMatch(Long id, Long expectedVersion, User updatedUser);
+
 	void deleteUser(Long id);
+
+	int deleteUsers(Collection<Long> ids);
+
+	long getUsersVersion();
+
+	List<UserChangeEvent> getChangesSince(Long since, int limit);
 }
@@ -0,0 +1,88 @@
+package br.com.eaugusto.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight,
+ * other callers asking for the same key wait for its result instead of running
+ * the call again. Nothing is kept once the call returns, so this is not a
+ * cache; the next caller after that runs a fresh call.
+ * <p>
+ * The first caller runs the call on its own thread; callers that join it get
+ * the same result or the same exception. The call must therefore not depend on
+ * its caller's transaction: a result read in one caller's transaction could
+ * include that transaction's uncommitted writes, and every caller that joined
+ * would see them. The call should open its own transaction, as
+ * {@link UserService} does, and callers already inside one should not go
+ * through here at all.
+ * </p>
+ *
+ * @param <K> The type of the keys calls are merged on.
+ * @param <V> The type of the results.
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public final class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	/**
+	 * Runs the call for the given key, or waits for the one already in flight.
+	 *
+	 * @param key  The key identifying the call.
+	 * @param call The call to run when none is in flight for the key.
+	 * @return The result of the call.
+	 */
+	public V execute(K key, Supplier<V> call) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+		if (running != null) {
+			waiting.incrementAndGet();
+			try {
+				return await(running);
+			} finally {
+				waiting.decrementAndGet();
+			}
+		}
+
+		try {
+			V result = call.get();
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * Reports how many callers are waiting for another caller's call.
+	 *
+	 * @return The number of callers currently joined to a call in flight.
+	 */
+	public int getWaitingCount() {
+		return waiting.get();
+	}
+
+	private static <V> V await(CompletableFuture<V> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
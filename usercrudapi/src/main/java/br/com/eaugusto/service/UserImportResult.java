@@ -0,0 +1,39 @@
+package br.com.eaugusto.service;
+
+import br.com.eaugusto.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of importing a single row of a bulk user import. Holds the row
+ * position in the request, the generated id when the user was created, or the
+ * reason the row was rejected.
+ * 
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResult {
+
+	/** Import status of a row. */
+	public enum Status {
+		CREATED, FAILED
+	}
+
+	private int row;
+	private Status status;
+	private Long id;
+	private String email;
+	private String message;
+
+	public static UserImportResult created(int row, User user) {
+		return new UserImportResult(row, Status.CREATED, user.getId(), user.getEmail(), null);
+	}
+
+	public static UserImportResult failed(int row, String email, String message) {
+		return new UserImportResult(row, Status.FAILED, null, email, message);
+	}
+}
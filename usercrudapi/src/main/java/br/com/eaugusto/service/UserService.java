@@ -1,50 +1,240 @@
 package br.com.eaugusto.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.com.eaugusto.config.CacheConfig;
+import br.com.eaugusto.config.ReadReplicaConfig;
 import br.com.eaugusto.exception.InvalidUserDataException;
 import br.com.eaugusto.exception.UserNotFoundException;
+import br.com.eaugusto.exception.UserVersionConflictException;
 import br.com.eaugusto.model.User;
+import br.com.eaugusto.model.UserChangeEvent;
+import br.com.eaugusto.model.UserChangeType;
+import br.com.eaugusto.model.UserTableVersion;
+import br.com.eaugusto.repository.IUserChangeEventRepository;
 import br.com.eaugusto.repository.IUserRepository;
+import br.com.eaugusto.repository.IUserTableVersionRepository;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.repository.projection.UserSummary;
+import br.com.eaugusto.repository.projection.UserUpdateResult;
+import br.com.eaugusto.security.HashingPasswordEncoder;
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service layer implementation for managing User entities. Handles CRUD
  * operations by delegating to the repository. Uses BCrypt PasswordEncoder for
- * encryption.
+ * encryption, upgrading outdated hashes when users log in. Read paths return
+ * record projections selecting only the needed columns, never entities with
+ * their password hash, except for login, which needs it. Lookups by id and
+ * email are cached (see {@link CacheConfig}), the email cache keyed by the
+ * normalized email. Every write evicts only the entries of the users it
+ * changed, by id and by email, including an email replaced by an update. A
+ * single-user update or delete returns that email from its own statement, whose
+ * row lock also orders it against concurrent writes of the user; a bulk delete
+ * locks the rows it reads the emails from.
+ * <p>
+ * Methods run in read-only transactions unless they declare otherwise, so
+ * Hibernate neither flushes nor dirty-checks on queries and, when a read
+ * replica is configured (see {@link ReadReplicaConfig}), they are served by
+ * the replica. The cached lookups are the exception: they read from the
+ * primary, since a lagging replica row would stay cached long after the write
+ * that evicted it.
+ * </p>
+ * <p>
+ * Every write also records what it changed in the change feed (see
+ * {@link UserChangeEvent}) within its own transaction, and announces the new
+ * users table version with a {@link UsersChangedEvent} once it commits.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 10, 2025
  */
 @Service
+@Transactional(readOnly = true)
+@Timed(value = "users.service", description = "Time spent in UserService methods")
 public class UserService implements IUserService {
 
+	/** Largest page a client may request through keyset pagination. */
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	/** Shortest search term, the size of a trigram used by the search indexes. */
+	public static final int MIN_SEARCH_LENGTH = 3;
+
+	/** Largest number of ids accepted by a single bulk delete. */
+	public static final int MAX_BULK_DELETE = 10_000;
+
+	/** Largest number of ids accepted by a single batch lookup. */
+	public static final int MAX_BATCH_GET = 5000;
+
+	/** Ids per {@code ... IN} query or statement, well below driver bind limits. */
+	private static final int ID_CHUNK_SIZE = 1000;
+
+	/** Cache key of an {@code email} argument, the email as it is stored. */
+	private static final String NORMALIZED_EMAIL_KEY = "T(br.com.eaugusto.service.UserService).normalizeEmail(#email)";
+
 	private final IUserRepository userRepository;
+	private final IUserTableVersionRepository tableVersionRepository;
+	private final IUserChangeEventRepository changeEventRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final CacheManager cacheManager;
+	final SingleFlight<Long, Optional<UserSummary>> summariesInFlight = new SingleFlight<>();
+	final SingleFlight<String, Optional<UserCredentials>> credentialsInFlight = new SingleFlight<>();
 
-	public UserService(IUserRepository userRepository, PasswordEncoder passwordEncoder) {
+	public UserService(IUserRepository userRepository, IUserTableVersionRepository tableVersionRepository,
+			IUserChangeEventRepository changeEventRepository, PasswordEncoder passwordEncoder,
+			ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+			CacheManager cacheManager) {
 		if (userRepository == null) {
 			throw new IllegalArgumentException("UserRepository cannot be null.");
 		}
+		if (tableVersionRepository == null) {
+			throw new IllegalArgumentException("UserTableVersionRepository cannot be null.");
+		}
+		if (changeEventRepository == null) {
+			throw new IllegalArgumentException("UserChangeEventRepository cannot be null.");
+		}
 		if (passwordEncoder == null) {
 			throw new IllegalArgumentException("PasswordEncoder cannot be null.");
 		}
+		if (eventPublisher == null) {
+			throw new IllegalArgumentException("ApplicationEventPublisher cannot be null.");
+		}
+		if (transactionManager == null) {
+			throw new IllegalArgumentException("PlatformTransactionManager cannot be null.");
+		}
+		if (cacheManager == null) {
+			throw new IllegalArgumentException("CacheManager cannot be null.");
+		}
 		this.userRepository = userRepository;
+		this.tableVersionRepository = tableVersionRepository;
+		this.changeEventRepository = changeEventRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.cacheManager = cacheManager;
 	}
 
 	@Override
+	@Transactional
 	public User saveUser(User user) {
 		if (user == null) {
 			throw new InvalidUserDataException("O usuário não pode ser nulo.");
 		}
 
 		validateUserData(user);
+		user.setEmail(normalizeEmail(user.getEmail()));
 		user.setSenha(passwordEncoder.encode(user.getSenha()));
-		return userRepository.save(user);
+		User saved = userRepository.save(user);
+		recordChanges(List.of(changeOf(UserChangeType.CREATED, saved)));
+		evictCached(List.of(saved.getId()), List.of(saved.getEmail()));
+		return saved;
+	}
+
+	/**
+	 * Imports a chunk of users. Each row is validated on its own, emails already
+	 * registered or repeated inside the chunk are rejected with a single lookup,
+	 * passwords are hashed in parallel and the valid rows are inserted through
+	 * JDBC batching in one transaction.
+	 * <p>
+	 * Hashing a chunk takes far longer than inserting it, so it runs outside any
+	 * transaction: the email lookup and the insert each use a short transaction
+	 * of their own on the primary, and no database connection is held while the
+	 * passwords are hashed.
+	 * </p>
+	 *
+	 * @param users    The users of this chunk, with raw passwords.
+	 * @param firstRow The position of the first user in the whole import, used in
+	 *                 the results.
+	 * @return One result per user, in the same order.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<UserImportResult> importUsers(List<User> users, int firstRow) {
+		if (users == null) {
+			throw new InvalidUserDataException("A lista de usuários não pode ser nula.");
+		}
+
+		UserImportResult[] results = new UserImportResult[users.size()];
+		Set<String> chunkEmails = new HashSet<>();
+		for (int i = 0; i < users.size(); i++) {
+			User user = users.get(i);
+			try {
+				validateUserData(user);
+			} catch (InvalidUserDataException e) {
+				results[i] = UserImportResult.failed(firstRow + i, user == null ? null : user.getEmail(),
+						e.getMessage());
+				continue;
+			}
+			user.setEmail(normalizeEmail(user.getEmail()));
+			if (!chunkEmails.add(user.getEmail())) {
+				results[i] = UserImportResult.failed(firstRow + i, user.getEmail(),
+						"E-mail repetido na importação.");
+			}
+		}
+
+		Set<String> existingEmails = chunkEmails.isEmpty() ? Set.of()
+				: transactionTemplate.execute(status -> userRepository.findExistingEmails(chunkEmails));
+		List<User> toInsert = new ArrayList<>(users.size());
+		List<Integer> insertedIndexes = new ArrayList<>(users.size());
+		for (int i = 0; i < users.size(); i++) {
+			if (results[i] != null) {
+				continue;
+			}
+			User user = users.get(i);
+			if (existingEmails.contains(user.getEmail())) {
+				results[i] = UserImportResult.failed(firstRow + i, user.getEmail(), "E-mail já cadastrado.");
+			} else {
+				toInsert.add(user);
+				insertedIndexes.add(i);
+			}
+		}
+
+		List<String> hashes = HashingPasswordEncoder.encodeAll(passwordEncoder,
+				toInsert.stream().map(User::getSenha).toList());
+		for (int i = 0; i < toInsert.size(); i++) {
+			toInsert.get(i).setSenha(hashes.get(i));
+		}
+
+		List<User> saved = transactionTemplate.execute(status -> {
+			List<User> inserted = userRepository.saveAll(toInsert);
+			recordChanges(inserted.stream().map(user -> changeOf(UserChangeType.CREATED, user)).toList());
+			return inserted;
+		});
+		evictCached(saved.stream().map(User::getId).toList(), saved.stream().map(User::getEmail).toList());
+		for (int i = 0; i < saved.size(); i++) {
+			int index = insertedIndexes.get(i);
+			results[index] = UserImportResult.created(firstRow + index, saved.get(i));
+		}
+		return Arrays.asList(results);
 	}
 
 	@Override
@@ -52,15 +242,190 @@ public class UserService implements IUserService {
 		return userRepository.findAll();
 	}
 
+	/**
+	 * Returns one keyset page of users ordered by id.
+	 *
+	 * @param after The last id already returned to the client, or null for the
+	 *              first page.
+	 * @param limit The page size, between 1 and {@link #MAX_PAGE_SIZE}.
+	 * @return Up to {@code limit} users with an id greater than {@code after}.
+	 * @throws InvalidUserDataException if the limit is out of range.
+	 */
+	@Override
+	public List<UserSummary> getUsersPage(Long after, int limit) {
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new InvalidUserDataException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+		}
+		return userRepository.findSummariesAfter(after == null ? 0L : after, Limit.of(limit));
+	}
+
+	/**
+	 * Searches users whose name or email contains the query, ignoring case, one
+	 * keyset page at a time. LIKE wildcards typed by the user are matched
+	 * literally.
+	 *
+	 * @param query The text to look for, at least {@value #MIN_SEARCH_LENGTH}
+	 *              characters after trimming.
+	 * @param after The last id already returned to the client, or null for the
+	 *              first page.
+	 * @param limit The page size, between 1 and {@link #MAX_PAGE_SIZE}.
+	 * @return Up to {@code limit} matches with an id greater than {@code after},
+	 *         ordered by id, without password hashes.
+	 * @throws InvalidUserDataException if the query is too short or the limit is
+	 *                                  out of range.
+	 */
+	@Override
+	public List<UserSummary> searchUsers(String query, Long after, int limit) {
+		String term = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+		if (term.length() < MIN_SEARCH_LENGTH) {
+			throw new InvalidUserDataException(
+					"A busca deve ter pelo menos " + MIN_SEARCH_LENGTH + " caracteres.");
+		}
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new InvalidUserDataException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+		}
+		String pattern = "%" + term.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+		return userRepository.searchByNomeOrEmail(pattern, after == null ? 0L : after, Limit.of(limit));
+	}
+
+	/**
+	 * Streams every user ordered by id to the given action, reading rows from a
+	 * JDBC cursor. Rows are read as {@link UserSummary} projections, so neither
+	 * the password hashes nor managed entities are held while streaming.
+	 *
+	 * @param action The callback invoked for each user.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void forEachUser(Consumer<UserSummary> action) {
+		try (Stream<UserSummary> users = userRepository.streamAllSummaries()) {
+			users.forEach(action);
+		}
+	}
+
+	/**
+	 * Returns the client-visible fields of a user. Only those columns are read,
+	 * and only they are kept in the id cache. Concurrent lookups of the same id
+	 * share one query (see {@link SingleFlight}).
+	 *
+	 * @param id The ID of the user.
+	 * @return The user summary, or empty if the user does not exist.
+	 * @throws InvalidUserDataException if the id is null.
+	 */
 	@Override
-	public Optional<User> getUserById(Long id) {
+	@Transactional(propagation = Propagation.SUPPORTS)
+	@Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#id", condition = "#id != null", sync = true)
+	public Optional<UserSummary> getUserById(Long id) {
 		if (id == null) {
 			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
 		}
-		return userRepository.findById(id);
+		return coalesce(summariesInFlight, id, () -> userRepository.findSummaryById(id));
+	}
+
+	/**
+	 * Looks up many users at once. Ids are de-duplicated and resolved
+	 * {@value #ID_CHUNK_SIZE} at a time, each chunk with a single
+	 * {@code SELECT ... WHERE id IN (...)}, instead of one query per id. Like
+	 * {@link #getUserById(Long)}, it reads from the primary, so a user created
+	 * just before is never reported missing because a replica lags.
+	 *
+	 * @param ids The ids to look up, at most {@value #MAX_BATCH_GET} distinct.
+	 * @return The users found, in the order their ids were first requested; ids
+	 *         that do not exist are left out.
+	 * @throws InvalidUserDataException if the list is null, empty, too large or
+	 *                                  contains a null id.
+	 */
+	@Override
+	@Transactional
+	public List<UserSummary> getUsersByIds(Collection<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			throw new InvalidUserDataException("A lista de IDs não pode ser vazia.");
+		}
+		if (ids.stream().anyMatch(Objects::isNull)) {
+			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
+		}
+		List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+		if (distinct.size() > MAX_BATCH_GET) {
+			throw new InvalidUserDataException("A lista de IDs não pode ter mais de " + MAX_BATCH_GET + " itens.");
+		}
+
+		Map<Long, UserSummary> found = new HashMap<>();
+		for (int from = 0; from < distinct.size(); from += ID_CHUNK_SIZE) {
+			userRepository.findSummariesByIds(distinct.subList(from, Math.min(from + ID_CHUNK_SIZE, distinct.size())))
+					.forEach(user -> found.put(user.id(), user));
+		}
+
+		List<UserSummary> users = new ArrayList<>(found.size());
+		for (Long id : distinct) {
+			UserSummary user = found.get(id);
+			if (user != null) {
+				users.add(user);
+			}
+		}
+		return users;
+	}
+
+	/**
+	 * Looks up the credentials of a single user by email through the unique email
+	 * index instead of scanning the whole table. The email is normalized the same
+	 * way it is on writes, so lookups are case-insensitive. Concurrent lookups of
+	 * the same email share one query. The cache is keyed by the normalized email
+	 * too, so every spelling of an email shares one entry, which writes evict.
+	 *
+	 * @param email The email to search for.
+	 * @return An Optional containing the credentials if found, or empty otherwise.
+	 * @throws InvalidUserDataException if the email is null or blank.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	@Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = NORMALIZED_EMAIL_KEY, condition = "#email != null",
+			sync = true)
+	public Optional<UserCredentials> findCredentialsByEmail(String email) {
+		if (email == null || email.isBlank()) {
+			throw new InvalidUserDataException("O e-mail do usuário não pode estar vazio.");
+		}
+		String normalized = normalizeEmail(email);
+		return coalesce(credentialsInFlight, normalized, () -> userRepository.findCredentialsByEmail(normalized));
+	}
+
+	/**
+	 * Runs a lookup once for all concurrent callers asking for the same key. The
+	 * first caller runs it in a read-write transaction of its own, so it reads
+	 * the primary, and the others get that result. A caller already inside a
+	 * transaction runs the lookup alone in that transaction instead: it must see
+	 * its own uncommitted writes, and no other caller may see them.
+	 */
+	private <K, V> V coalesce(SingleFlight<K, V> flights, K key, Supplier<V> lookup) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return lookup.get();
+		}
+		return flights.execute(key, () -> transactionTemplate.execute(status -> lookup.get()));
+	}
+
+	/**
+	 * Re-hashes the password of a user who has just authenticated when the stored
+	 * hash uses an outdated format or a lower cost than the current configuration.
+	 * Only then is the user's email cache entry evicted; an up-to-date hash, the
+	 * usual case, leaves the cache alone.
+	 *
+	 * @param credentials The credentials the user has just been verified against.
+	 * @param rawPassword The password the user has just been verified with.
+	 * @throws InvalidUserDataException if the credentials or password are null.
+	 */
+	@Override
+	@Transactional
+	public void upgradePasswordIfNeeded(UserCredentials credentials, String rawPassword) {
+		if (credentials == null || rawPassword == null) {
+			throw new InvalidUserDataException("Os dados do usuário não podem ser nulos.");
+		}
+		if (passwordEncoder.upgradeEncoding(credentials.senha())) {
+			userRepository.updatePassword(credentials.id(), passwordEncoder.encode(rawPassword));
+			evictCached(List.of(), List.of(credentials.email()));
+		}
 	}
 
 	@Override
+	@Transactional
 	public User updateUser(Long id, User updatedUser) {
 		if (id == null) {
 			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
@@ -74,27 +439,208 @@ public class UserService implements IUserService {
 
 		validateUserDataForUpdate(updatedUser);
 
+		String previousEmail = existingUser.getEmail();
 		existingUser.setNome(updatedUser.getNome());
-		existingUser.setEmail(updatedUser.getEmail());
+		existingUser.setEmail(normalizeEmail(updatedUser.getEmail()));
 
 		if (updatedUser.getSenha() != null && !updatedUser.getSenha().isBlank()) {
 			existingUser.setSenha(passwordEncoder.encode(updatedUser.getSenha()));
 		}
 
-		return userRepository.save(existingUser);
+		User saved = userRepository.save(existingUser);
+		recordChanges(List.of(changeOf(UserChangeType.UPDATED, saved)));
+		evictCached(List.of(id), List.of(previousEmail, saved.getEmail()));
+		return saved;
 	}
 
+	/**
+	 * Conditional update: issues a single {@code UPDATE ... WHERE id = ? AND
+	 * versao = ?} without loading the entity, which returns the new version and
+	 * the email the update replaces, to evict from the cache. Only when it
+	 * changes no row does a second query tell a missing user from a stale
+	 * version.
+	 *
+	 * @param id              The ID of the user to update.
+	 * @param expectedVersion The version the client last saw (its If-Match).
+	 * @param updatedUser     The new user data; a null or blank password keeps the
+	 *                        current one.
+	 * @return The updated user with its new version.
+	 * @throws UserNotFoundException        if the user does not exist.
+	 * @throws UserVersionConflictException if the user was changed since
+	 *                                      {@code expectedVersion}.
+	 */
 	@Override
+	@Transactional
+	public User updateUserIfMatch(Long id, Long expectedVersion, User updatedUser) {
+		if (id == null) {
+			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
+		}
+		if (expectedVersion == null) {
+			throw new InvalidUserDataException("A versão do usuário não pode ser nula.");
+		}
+		if (updatedUser == null) {
+			throw new InvalidUserDataException("Os dados do usuário não podem ser nulos.");
+		}
+
+		validateUserDataForUpdate(updatedUser);
+
+		String email = normalizeEmail(updatedUser.getEmail());
+		String senha = updatedUser.getSenha() == null || updatedUser.getSenha().isBlank() ? null
+				: passwordEncoder.encode(updatedUser.getSenha());
+
+		UserUpdateResult result = userRepository
+				.updateIfVersionMatches(id, expectedVersion, updatedUser.getNome(), email, senha)
+				.orElseThrow(() -> userRepository.existsById(id)
+						? new UserVersionConflictException("O usuário com ID " + id
+								+ " foi alterado por outra requisição. Recarregue e tente novamente.")
+						: new UserNotFoundException("Usuário não encontrado com o ID: " + id));
+		User updated = new User(id, updatedUser.getNome(), email, senha, result.versao());
+		recordChanges(List.of(changeOf(UserChangeType.UPDATED, updated)));
+		evictCached(List.of(id), List.of(result.previousEmail(), email));
+		return updated;
+	}
+
+	/**
+	 * Deletes a user with a single {@code DELETE ... RETURNING email}: no row
+	 * means the user does not exist, and the email returned is evicted from the
+	 * cache. The row lock the delete takes orders it against concurrent writes
+	 * of the same user.
+	 *
+	 * @param id The ID of the user to delete.
+	 * @throws UserNotFoundException if the user does not exist.
+	 */
+	@Override
+	@Transactional
 	public void deleteUser(Long id) {
 		if (id == null) {
 			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
 		}
 
-		if (!userRepository.existsById(id)) {
-			throw new UserNotFoundException("Usuário não encontrado com o ID: " + id);
+		String email = userRepository.deleteReturningEmail(id)
+				.orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com o ID: " + id));
+		recordChanges(List.of(UserChangeEvent.of(UserChangeType.DELETED, id, null, null)));
+		evictCached(List.of(id), List.of(email));
+	}
+
+	/**
+	 * Deletes the given users in one transaction. Ids are de-duplicated and
+	 * handled {@value #ID_CHUNK_SIZE} at a time: one query finds and locks those
+	 * that exist, so the change feed only lists users actually deleted and their
+	 * emails can be evicted from the cache, and one
+	 * {@code DELETE ... WHERE id IN (...)} removes them; ids that do not exist are
+	 * ignored.
+	 *
+	 * @param ids The ids to delete, at most {@value #MAX_BULK_DELETE}.
+	 * @return The number of users actually deleted.
+	 * @throws InvalidUserDataException if the list is null, empty, too large or
+	 *                                  contains a null id.
+	 */
+	@Override
+	@Transactional
+	public int deleteUsers(Collection<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			throw new InvalidUserDataException("A lista de IDs não pode ser vazia.");
+		}
+		if (ids.size() > MAX_BULK_DELETE) {
+			throw new InvalidUserDataException("A lista de IDs não pode ter mais de " + MAX_BULK_DELETE + " itens.");
+		}
+		if (ids.stream().anyMatch(Objects::isNull)) {
+			throw new InvalidUserDataException("O ID do usuário não pode ser nulo.");
+		}
+
+		List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+		List<UserChangeEvent> changes = new ArrayList<>();
+		List<Long> deletedIds = new ArrayList<>();
+		List<String> deletedEmails = new ArrayList<>();
+		int deleted = 0;
+		for (int from = 0; from < distinct.size(); from += ID_CHUNK_SIZE) {
+			List<UserSummary> existing = userRepository
+					.lockSummariesByIds(distinct.subList(from, Math.min(from + ID_CHUNK_SIZE, distinct.size())));
+			if (!existing.isEmpty()) {
+				List<Long> existingIds = existing.stream().map(UserSummary::id).toList();
+				deleted += userRepository.deleteUsersByIds(existingIds);
+				existingIds.forEach(id -> changes.add(UserChangeEvent.of(UserChangeType.DELETED, id, null, null)));
+				deletedIds.addAll(existingIds);
+				existing.forEach(user -> deletedEmails.add(user.email()));
+			}
 		}
 
-		userRepository.deleteById(id);
+		recordChanges(changes);
+		evictCached(deletedIds, deletedEmails);
+		return deleted;
+	}
+
+	/**
+	 * Returns the change counter of the users table, which is incremented by every
+	 * write that changes a listed field. Used as the ETag of user listings.
+	 *
+	 * @return The current version of the users table.
+	 */
+	@Override
+	public long getUsersVersion() {
+		return tableVersionRepository.findCurrent().orElse(0L);
+	}
+
+	/**
+	 * Returns the changes recorded after the given users table version, oldest
+	 * first. Read from the primary: consumers are woken up by commits on it, and a
+	 * lagging replica would answer them with nothing new.
+	 *
+	 * @param since The last version the consumer has already seen, or null to
+	 *              read from the beginning.
+	 * @param limit The maximum number of changes, between 1 and
+	 *              {@link #MAX_PAGE_SIZE}.
+	 * @return Up to {@code limit} changes with a greater version.
+	 * @throws InvalidUserDataException if the limit is out of range.
+	 */
+	@Override
+	@Transactional
+	public List<UserChangeEvent> getChangesSince(Long since, int limit) {
+		if (limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new InvalidUserDataException("O limite deve estar entre 1 e " + MAX_PAGE_SIZE + ".");
+		}
+		return changeEventRepository.findByVersaoGreaterThanOrderByVersaoAsc(since == null ? 0L : since,
+				Limit.of(limit));
+	}
+
+	/**
+	 * Records the changes of the current write: increments the users table
+	 * version by one per change, numbers the changes with the versions taken and
+	 * stores them in the change feed, all within the current transaction.
+	 * Listeners learn about the new version after the transaction commits.
+	 *
+	 * @param changes The changes made by the write; nothing is recorded when
+	 *                empty.
+	 */
+	private void recordChanges(List<UserChangeEvent> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		long version = incrementUsersVersion(changes.size());
+		long next = version - changes.size();
+		for (UserChangeEvent change : changes) {
+			change.setVersao(++next);
+		}
+		changeEventRepository.saveAll(changes);
+		eventPublisher.publishEvent(new UsersChangedEvent(version));
+	}
+
+	/**
+	 * Increments the users table version within the current transaction, creating
+	 * the counter row on first use.
+	 *
+	 * @param by The number of changes made by the write.
+	 * @return The new version.
+	 */
+	private long incrementUsersVersion(int by) {
+		return tableVersionRepository.incrementAndGet(by).orElseGet(() -> {
+			tableVersionRepository.save(new UserTableVersion(UserTableVersion.SINGLETON_ID, (long) by));
+			return (long) by;
+		});
+	}
+
+	private static UserChangeEvent changeOf(UserChangeType type, User user) {
+		return UserChangeEvent.of(type, user.getId(), user.getNome(), user.getEmail());
 	}
 
 	/**
@@ -138,4 +684,30 @@ public class UserService implements IUserService {
 	private void validateUserDataForUpdate(User user) {
 		validateUserNameAndEmail(user);
 	}
+
+	/**
+	 * Evicts the cached lookups of the users a write changed. Inside a transaction
+	 * the evictions are applied once it commits (see {@link CacheConfig}).
+	 *
+	 * @param ids    The ids of the users.
+	 * @param emails Their normalized emails, both before and after the write.
+	 */
+	private void evictCached(Collection<Long> ids, Collection<String> emails) {
+		Cache byId = cacheManager.getCache(CacheConfig.USERS_BY_ID);
+		Cache byEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+		ids.forEach(byId::evict);
+		emails.forEach(byEmail::evict);
+	}
+
+	/**
+	 * Normalizes an email address for storage and lookup, matching the
+	 * {@code LOWER(email)} unique index declared in schema.sql. Also the key of
+	 * the email cache.
+	 *
+	 * @param email The email to normalize.
+	 * @return The trimmed, lower-cased email.
+	 */
+	public static String normalizeEmail(String email) {
+		return email.trim().toLowerCase(Locale.ROOT);
+	}
 }
@@ -0,0 +1,15 @@
+package br.com.eaugusto.service;
+
+/**
+ * Application event published by {@link UserService} when a write records
+ * changes in the change feed. Listeners bound to the transaction phase receive
+ * it only once the write has committed.
+ *
+ * @param version The users table version after the write, which is also the
+ *                version of its last change.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+public record UsersChangedEvent(long version) {
+}
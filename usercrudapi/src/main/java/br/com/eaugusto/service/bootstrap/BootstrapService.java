@@ -1,22 +1,122 @@
 package br.com.eaugusto.service.bootstrap;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.eaugusto.model.AppInit;
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.service.IUserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 /**
- * Service component responsible for providing bootstrap-related operations.
- * Currently exposes the database password as the default admin password.
- * 
+ * Service component responsible for bootstrapping the application: it creates
+ * the admin user if none exists, using the database password as the default
+ * admin password, and marks the {@code app_init} row as initialized.
+ * <p>
+ * This runs once, at startup. The outcome is kept in memory, so afterwards
+ * {@link #ensureInitialized()} is a volatile read plus a check that the admin
+ * still exists, answered by the email cache, which deleting the admin evicts.
+ * If the database was not reachable at startup, or the admin was deleted since,
+ * the next caller runs the bootstrap again, and concurrent callers wait for
+ * that one run instead of racing to create the admin twice.
+ * </p>
+ *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Nov 11, 2025
  */
 @Component
-public class BootstrapService {
+public class BootstrapService implements ApplicationRunner {
+
+	/** Email of the admin user created on bootstrap. */
+	public static final String ADMIN_EMAIL = "admin@gmail.com";
+
+	private static final Logger log = LoggerFactory.getLogger(BootstrapService.class);
+
+	private static final Long APP_INIT_ID = 1L;
+
+	private final IUserService userService;
+	private final TransactionTemplate transactionTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
 
 	@Value("${spring.datasource.password}")
 	private String dbPassword;
 
+	private volatile boolean initialized;
+
+	public BootstrapService(IUserService userService, PlatformTransactionManager transactionManager) {
+		this.userService = userService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
 	public String getAdminPassword() {
 		return dbPassword;
 	}
+
+	/**
+	 * Bootstraps the application at startup. A failure is logged rather than
+	 * aborting startup; the bootstrap endpoint retries it on its next call.
+	 */
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			ensureInitialized();
+		} catch (RuntimeException e) {
+			log.warn("Bootstrap failed at startup, it will be retried on the next bootstrap request", e);
+		}
+	}
+
+	/**
+	 * Makes sure the admin user exists and the application is marked as
+	 * initialized, doing the work again only when the admin has gone missing.
+	 */
+	public void ensureInitialized() {
+		if (initialized && adminExists()) {
+			return;
+		}
+		synchronized (this) {
+			if (!initialized || !adminExists()) {
+				initialized = false;
+				transactionTemplate.executeWithoutResult(status -> bootstrap());
+				initialized = true;
+			}
+		}
+	}
+
+	/**
+	 * Reports whether bootstrap has completed.
+	 *
+	 * @return True once the admin user exists and {@code app_init} is set.
+	 */
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	private boolean adminExists() {
+		return userService.findCredentialsByEmail(ADMIN_EMAIL).isPresent();
+	}
+
+	private void bootstrap() {
+		if (!adminExists()) {
+			userService.saveUser(new User(null, "Admin", ADMIN_EMAIL, getAdminPassword(), null));
+		}
+
+		AppInit appInit = entityManager.find(AppInit.class, APP_INIT_ID);
+		if (appInit == null) {
+			appInit = new AppInit();
+			appInit.setId(APP_INIT_ID);
+			appInit.setInitialized(Boolean.TRUE);
+			entityManager.persist(appInit);
+		} else if (!Boolean.TRUE.equals(appInit.getInitialized())) {
+			appInit.setInitialized(Boolean.TRUE);
+		}
+	}
 }
@@ -0,0 +1,78 @@
+package br.com.eaugusto.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for the routing data source built by {@link ReadReplicaConfig}.
+ * Two in-memory H2 databases stand in for the primary and the replica, each
+ * holding a row that names it, so every query reports which one served it.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class ReadReplicaConfigTest {
+
+	private static final String WHICH_DATABASE = "SELECT nome FROM banco";
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		DataSource routing = ReadReplicaConfig.routingDataSource(database("primary"), database("replica"));
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+		jdbcTemplate = new JdbcTemplate(routing);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	private static DataSource database(String name) {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("CREATE TABLE IF NOT EXISTS banco (nome VARCHAR(20))");
+		jdbc.execute("DELETE FROM banco");
+		jdbc.update("INSERT INTO banco (nome) VALUES (?)", name);
+		return dataSource;
+	}
+
+	@Test
+	@DisplayName("Read-only transactions should run on the replica")
+	void testReadOnlyTransactionUsesReplica() {
+		assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)));
+	}
+
+	@Test
+	@DisplayName("Read-write transactions should run on the primary")
+	void testReadWriteTransactionUsesPrimary() {
+		assertEquals("primary",
+				readWrite.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)));
+	}
+
+	@Test
+	@DisplayName("Work outside a transaction should run on the primary")
+	void testNoTransactionUsesPrimary() {
+		assertEquals("primary", jdbcTemplate.queryForObject(WHICH_DATABASE, String.class));
+	}
+
+	@Test
+	@DisplayName("Read-only transactions after a write should still use the replica")
+	void testRoutingIsDecidedPerTransaction() {
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE banco SET nome = 'primary-2'"));
+
+		assertEquals("replica", readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)));
+		assertEquals("primary-2", jdbcTemplate.queryForObject(WHICH_DATABASE, String.class));
+	}
+}
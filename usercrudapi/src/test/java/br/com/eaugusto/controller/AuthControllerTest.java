@@ -0,0 +1,314 @@
+package br.com.eaugusto.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.eaugusto.controller.dto.LoginRequest;
+import br.com.eaugusto.exception.InvalidRefreshTokenException;
+import br.com.eaugusto.exception.InvalidUserDataException;
+import br.com.eaugusto.exception.TooManyLoginAttemptsException;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.security.JWTUtil;
+import br.com.eaugusto.security.LoginRateLimiter;
+import br.com.eaugusto.security.RefreshTokenFamilies;
+import br.com.eaugusto.security.RevokedJwtException;
+import br.com.eaugusto.security.TokenRevocationList;
+import br.com.eaugusto.service.IUserService;
+
+/**
+ * Unit tests for {@link AuthController} focused on login rate limiting: a flood
+ * of bad passwords must be rejected before reaching the password encoder, so
+ * the number of BCrypt checks stays bounded by the bucket capacities no matter
+ * how many attempts arrive. The limiter runs on a manual clock. The refresh
+ * and logout tests use a real {@link JWTUtil}.
+ * <p>
+ * {@code @SuppressWarnings("null")} is used on tests with Mockito matchers, for
+ * the STS4 null-analysis reason explained in {@code UserServiceTest}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class AuthControllerTest {
+
+	private static final int IP_CAPACITY = 20;
+	private static final int EMAIL_CAPACITY = 5;
+
+	@Mock
+	private IUserService userService;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private JWTUtil jwtUtil;
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private LoginRateLimiter limiter;
+	private AuthController authController;
+	private UserCredentials credentials;
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		limiter = new LoginRateLimiter(IP_CAPACITY, Duration.ofMinutes(1), EMAIL_CAPACITY,
+				Duration.ofMinutes(5), 1000, clock::get);
+		authController = new AuthController(userService, passwordEncoder, jwtUtil, limiter, true);
+
+		credentials = new UserCredentials(1L, "eduardo@teste.com", "{bcrypt}hash");
+		when(userService.findCredentialsByEmail(anyString())).thenReturn(Optional.of(credentials));
+	}
+
+	/**
+	 * Floods one account with wrong passwords from many threads and checks that
+	 * only the email bucket's capacity reaches the password encoder.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should bound password checks for one account under a concurrent flood")
+	void shouldBoundPasswordChecksUnderFlood() throws Exception {
+		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Callable<Class<?>>> attempts = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			String ip = "10.0." + (i % 50) + ".1";
+			attempts.add(() -> attempt("eduardo@teste.com", "wrong", ip));
+		}
+
+		int rejected = 0;
+		for (Future<Class<?>> result : executor.invokeAll(attempts)) {
+			if (result.get() == TooManyLoginAttemptsException.class) {
+				rejected++;
+			}
+		}
+		executor.shutdown();
+
+		verify(passwordEncoder, times(EMAIL_CAPACITY)).matches(anyString(), anyString());
+		assertEquals(2000 - EMAIL_CAPACITY, rejected);
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should limit attempts from one IP across many accounts")
+	void shouldLimitAttemptsPerIp() {
+		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+
+		for (int i = 0; i < 500; i++) {
+			attempt("user" + i + "@teste.com", "wrong", "203.0.113.7");
+		}
+
+		verify(passwordEncoder, times(IP_CAPACITY)).matches(anyString(), anyString());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should reject before looking up the user and report Retry-After")
+	void shouldRejectBeforeLookupWithRetryAfter() {
+		for (int i = 0; i < EMAIL_CAPACITY; i++) {
+			attempt("eduardo@teste.com", "wrong", "198.51.100.1");
+		}
+
+		TooManyLoginAttemptsException exception = assertThrows(TooManyLoginAttemptsException.class,
+				() -> authController.login(new LoginRequest("eduardo@teste.com", "wrong"),
+						request("198.51.100.1")));
+
+		assertEquals(60, exception.getRetryAfterSeconds());
+		verify(userService, times(EMAIL_CAPACITY)).findCredentialsByEmail(anyString());
+		verify(jwtUtil, never()).generateToken(anyString());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should accept login attempts again after the bucket refills")
+	void shouldAcceptAttemptsAfterRefill() {
+		when(passwordEncoder.matches("123456", "{bcrypt}hash")).thenReturn(true);
+		when(jwtUtil.generateToken("eduardo@teste.com")).thenReturn("token");
+		for (int i = 0; i < EMAIL_CAPACITY; i++) {
+			attempt("Eduardo@Teste.com ", "wrong", "198.51.100.1");
+		}
+		assertEquals(TooManyLoginAttemptsException.class, attempt("eduardo@teste.com", "123456", "198.51.100.1"));
+
+		clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+		assertEquals("token", authController
+				.login(new LoginRequest("eduardo@teste.com", "123456"), request("198.51.100.1")).getBody());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should charge the email bucket only for failed logins")
+	void shouldChargeEmailOnlyForFailedLogins() {
+		when(passwordEncoder.matches("123456", "{bcrypt}hash")).thenReturn(true);
+		when(jwtUtil.generateToken("eduardo@teste.com")).thenReturn("token");
+
+		for (int i = 0; i < 3 * EMAIL_CAPACITY; i++) {
+			assertNull(attempt("eduardo@teste.com", "123456", "10.0." + i + ".1"));
+		}
+		for (int i = 0; i < EMAIL_CAPACITY; i++) {
+			assertEquals(InvalidUserDataException.class, attempt("eduardo@teste.com", "wrong", "10.1." + i + ".1"));
+		}
+
+		assertEquals(TooManyLoginAttemptsException.class, attempt("eduardo@teste.com", "123456", "10.2.0.1"));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException for invalid rate limiter settings")
+	void shouldThrowForInvalidRateLimiterSettings() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoginRateLimiter(0, Duration.ofMinutes(1), 5, Duration.ofMinutes(5), 1000, clock::get));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoginRateLimiter(20, Duration.ZERO, 5, Duration.ofMinutes(5), 1000, clock::get));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoginRateLimiter(20, Duration.ofMinutes(1), 5, Duration.ofMinutes(5), 0, clock::get));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoginRateLimiter(20, Duration.ofMinutes(1), 5, Duration.ofMinutes(5), 1000, null));
+	}
+
+	/**
+	 * A refresh token is exchanged for a new pair without any password check, and
+	 * only once: reusing it fails, while the new one keeps working.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should refresh without checking a password and reject a reused refresh token")
+	void shouldRefreshOnceWithoutPasswordCheck() {
+		JWTUtil tokens = realJwtUtil();
+		AuthController controller = new AuthController(userService, passwordEncoder, tokens, limiter, true);
+		String refreshToken = tokens.generateRefreshToken("eduardo@teste.com");
+
+		ResponseEntity<String> refreshed = controller.refresh(refreshToken, request("198.51.100.1"));
+
+		assertEquals("eduardo@teste.com", tokens.extractEmail(refreshed.getBody()));
+		String cookie = refreshed.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+		assertTrue(cookie.startsWith(AuthController.REFRESH_COOKIE + "=") && cookie.contains("HttpOnly"));
+		verify(passwordEncoder, never()).matches(anyString(), anyString());
+
+		assertThrows(InvalidRefreshTokenException.class,
+				() -> controller.refresh(refreshToken, request("198.51.100.1")));
+		String rotated = cookie.substring(cookie.indexOf('=') + 1, cookie.indexOf(';'));
+		assertEquals(HttpStatus.OK, controller.refresh(rotated, request("198.51.100.1")).getStatusCode());
+		assertThrows(InvalidRefreshTokenException.class,
+				() -> controller.refresh(tokens.generateToken("eduardo@teste.com"), request("198.51.100.1")));
+	}
+
+	@Test
+	@DisplayName("Should revoke both tokens and clear the cookie on logout")
+	void shouldRevokeTokensOnLogout() {
+		JWTUtil tokens = realJwtUtil();
+		AuthController controller = new AuthController(userService, passwordEncoder, tokens, limiter, true);
+		String accessToken = tokens.generateToken("eduardo@teste.com");
+		String refreshToken = tokens.generateRefreshToken("eduardo@teste.com");
+		tokens.extractEmail(accessToken);
+
+		ResponseEntity<Void> response = controller.logout(refreshToken, "Bearer " + accessToken);
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+		assertTrue(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE).contains("Max-Age=0"));
+		assertThrows(RevokedJwtException.class, () -> tokens.extractEmail(accessToken));
+		assertThrows(InvalidRefreshTokenException.class,
+				() -> controller.refresh(refreshToken, request("198.51.100.1")));
+	}
+
+	/**
+	 * Refreshing many times keeps a single entry for the session, nothing per
+	 * spent token, and ending the session by logout rejects its latest token.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should keep one entry per session however often it refreshes")
+	void shouldTrackOneCurrentTokenPerSession() {
+		TokenRevocationList revocations = new TokenRevocationList(100);
+		RefreshTokenFamilies families = new RefreshTokenFamilies(100, Duration.ofDays(14));
+		JWTUtil tokens = new JWTUtil("secret", 100, Duration.ofMinutes(15), Duration.ofDays(14), revocations,
+				families);
+		AuthController controller = new AuthController(userService, passwordEncoder, tokens, limiter, true);
+		String refreshToken = tokens.generateRefreshToken("eduardo@teste.com");
+
+		for (int i = 0; i < IP_CAPACITY - 1; i++) {
+			refreshToken = rotatedToken(controller.refresh(refreshToken, request("10.0." + i + ".1")));
+		}
+
+		assertEquals(1, families.size());
+		assertEquals(0, revocations.size());
+		controller.logout(refreshToken, null);
+		String latest = refreshToken;
+		assertThrows(InvalidRefreshTokenException.class, () -> controller.refresh(latest, request("10.1.0.1")));
+		assertEquals(0, families.size());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should rate limit refreshes per client IP")
+	void shouldLimitRefreshesPerIp() {
+		JWTUtil tokens = realJwtUtil();
+		AuthController controller = new AuthController(userService, passwordEncoder, tokens, limiter, true);
+		String refreshToken = tokens.generateRefreshToken("eduardo@teste.com");
+
+		for (int i = 0; i < IP_CAPACITY; i++) {
+			refreshToken = rotatedToken(controller.refresh(refreshToken, request("203.0.113.7")));
+		}
+		String next = refreshToken;
+
+		assertThrows(TooManyLoginAttemptsException.class, () -> controller.refresh(next, request("203.0.113.7")));
+		assertEquals(HttpStatus.OK, controller.refresh(next, request("203.0.113.8")).getStatusCode());
+	}
+
+	private static String rotatedToken(ResponseEntity<String> response) {
+		String cookie = response.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+		return cookie.substring(cookie.indexOf('=') + 1, cookie.indexOf(';'));
+	}
+
+	private static JWTUtil realJwtUtil() {
+		return new JWTUtil("secret", 100, Duration.ofMinutes(15), Duration.ofDays(14), new TokenRevocationList(100),
+				new RefreshTokenFamilies(100, Duration.ofDays(14)));
+	}
+
+	/**
+	 * Runs one login attempt and returns the type of the exception it ended with,
+	 * or null when it succeeded.
+	 */
+	private Class<?> attempt(String email, String senha, String ip) {
+		try {
+			authController.login(new LoginRequest(email, senha), request(ip));
+			return null;
+		} catch (TooManyLoginAttemptsException | InvalidUserDataException e) {
+			return e.getClass();
+		}
+	}
+
+	private static MockHttpServletRequest request(String ip) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+		request.setRemoteAddr(ip);
+		return request;
+	}
+}
@@ -0,0 +1,153 @@
+package br.com.eaugusto.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import br.com.eaugusto.controller.dto.UserChangeResponse;
+import br.com.eaugusto.model.UserChangeEvent;
+import br.com.eaugusto.model.UserChangeType;
+import br.com.eaugusto.service.IUserService;
+import br.com.eaugusto.service.UsersChangedEvent;
+import jakarta.servlet.AsyncEvent;
+
+/**
+ * Unit tests for {@link UserChangeFeed} with a mocked service and an executor
+ * running on the calling thread, so a woken poll is answered before the event
+ * listener returns. Commits are simulated by calling
+ * {@link UserChangeFeed#onUsersChanged(UsersChangedEvent)} directly.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class UserChangeFeedTest {
+
+	private static final int LIMIT = 10;
+
+	@Mock
+	private IUserService userService;
+
+	private UserChangeFeed feed;
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		feed = new UserChangeFeed(userService, new TaskExecutorAdapter(Runnable::run), Duration.ofSeconds(30));
+	}
+
+	@Test
+	@DisplayName("Should answer at once when changes are already waiting")
+	void shouldAnswerImmediately() {
+		when(userService.getChangesSince(5L, LIMIT)).thenReturn(List.of(change(6L), change(7L)));
+
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> result = feed.poll(5L, LIMIT);
+
+		assertTrue(result.hasResult());
+		assertCursor("7", result);
+		assertEquals(List.of(6L, 7L), versions(result));
+	}
+
+	@Test
+	@DisplayName("Should park a poll and answer it when a later version commits")
+	void shouldWakeParkedPollOnCommit() {
+		when(userService.getChangesSince(5L, LIMIT)).thenReturn(List.of(), List.of(change(6L)));
+		when(userService.getChangesSince(6L, LIMIT)).thenReturn(List.of());
+
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> waiting = feed.poll(5L, LIMIT);
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> upToDate = feed.poll(6L, LIMIT);
+		assertFalse(waiting.hasResult());
+
+		feed.onUsersChanged(new UsersChangedEvent(6L));
+
+		assertTrue(waiting.hasResult());
+		assertCursor("6", waiting);
+		assertEquals(List.of(6L), versions(waiting));
+		assertFalse(upToDate.hasResult());
+		verify(userService, times(1)).getChangesSince(6L, LIMIT);
+	}
+
+	@Test
+	@DisplayName("Should end a poll with an empty list and the same cursor when it times out")
+	void shouldAnswerEmptyOnTimeout() throws Exception {
+		when(userService.getChangesSince(5L, LIMIT)).thenReturn(List.of());
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		StandardServletAsyncWebRequest asyncRequest = new StandardServletAsyncWebRequest(request, response);
+		WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+		asyncManager.setAsyncWebRequest(asyncRequest);
+
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> result = feed.poll(5L, LIMIT);
+		asyncManager.startDeferredResultProcessing(result);
+		AsyncEvent event = new AsyncEvent(new MockAsyncContext(request, response));
+		asyncRequest.onTimeout(event);
+		asyncRequest.onComplete(event);
+
+		ResponseEntity<?> timedOut = (ResponseEntity<?>) asyncManager.getConcurrentResult();
+		assertEquals("5", timedOut.getHeaders().getFirst(UserController.NEXT_CURSOR_HEADER));
+		assertEquals(List.of(), timedOut.getBody());
+
+		feed.onUsersChanged(new UsersChangedEvent(6L));
+		verify(userService, times(1)).getChangesSince(5L, LIMIT);
+	}
+
+	/**
+	 * A write that commits after the poll's query but before the poll is parked
+	 * publishes its event while nobody is waiting; the poll must still see it.
+	 */
+	@Test
+	@DisplayName("Should answer a poll whose commit event arrived while it was being parked")
+	void shouldCatchCommitBetweenQueryAndParking() {
+		when(userService.getChangesSince(5L, LIMIT)).thenAnswer(invocation -> {
+			feed.onUsersChanged(new UsersChangedEvent(6L));
+			return List.of();
+		}).thenReturn(List.of(change(6L)));
+
+		DeferredResult<ResponseEntity<List<UserChangeResponse>>> result = feed.poll(5L, LIMIT);
+
+		assertTrue(result.hasResult());
+		assertCursor("6", result);
+		assertEquals(List.of(6L), versions(result));
+	}
+
+	private static void assertCursor(String expected, DeferredResult<ResponseEntity<List<UserChangeResponse>>> result) {
+		assertEquals(expected, response(result).getHeaders().getFirst(UserController.NEXT_CURSOR_HEADER));
+	}
+
+	private static List<Long> versions(DeferredResult<ResponseEntity<List<UserChangeResponse>>> result) {
+		return response(result).getBody().stream().map(UserChangeResponse::getVersao).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ResponseEntity<List<UserChangeResponse>> response(
+			DeferredResult<ResponseEntity<List<UserChangeResponse>>> result) {
+		return (ResponseEntity<List<UserChangeResponse>>) result.getResult();
+	}
+
+	private static UserChangeEvent change(long version) {
+		UserChangeEvent change = UserChangeEvent.of(UserChangeType.UPDATED, 1L, "Ana", "ana@teste.com");
+		change.setVersao(version);
+		return change;
+	}
+}
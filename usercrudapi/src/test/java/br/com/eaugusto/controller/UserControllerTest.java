@@ -0,0 +1,319 @@
+package br.com.eaugusto.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.eaugusto.controller.dto.UserImportResponse;
+import br.com.eaugusto.controller.dto.UserRequest;
+import br.com.eaugusto.controller.dto.UserResponse;
+import br.com.eaugusto.exception.GlobalExceptionHandler;
+import br.com.eaugusto.exception.UserVersionConflictException;
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserSummary;
+import br.com.eaugusto.service.IUserService;
+import br.com.eaugusto.service.UserImportResult;
+
+/**
+ * Unit tests for {@link UserController} with a mocked service and the
+ * application's Jackson setup: the streaming import, fed JSON arrays and NDJSON
+ * bodies, checked for chunking, row positions and its failure paths, the
+ * conditional update, and the format negotiation of the streamed listing and
+ * of single users, whose ETag names the format.
+ * <p>
+ * {@code @SuppressWarnings("null")} is used on tests with Mockito matchers, for
+ * the STS4 null-analysis reason explained in {@code UserServiceTest}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class UserControllerTest {
+
+	@Mock
+	private IUserService userService;
+
+	@Mock
+	private UserChangeFeed changeFeed;
+
+	private UserController controller;
+
+	/** Size and first row of each chunk handed to the service, in call order. */
+	private List<int[]> importedChunks;
+
+	@SuppressWarnings({ "null" })
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		controller = new UserController(userService, changeFeed, Jackson2ObjectMapperBuilder.json().build());
+
+		when(userService.getUsersVersion()).thenReturn(7L);
+		doAnswer(invocation -> {
+			Consumer<UserSummary> action = invocation.getArgument(0);
+			action.accept(new UserSummary(1L, "Ana", "ana@teste.com", 0L));
+			action.accept(new UserSummary(2L, "Bia", "bia@teste.com", 0L));
+			return null;
+		}).when(userService).forEachUser(any());
+
+		importedChunks = new ArrayList<>();
+		when(userService.importUsers(anyList(), anyInt())).thenAnswer(invocation -> {
+			List<User> users = invocation.getArgument(0);
+			int firstRow = invocation.getArgument(1);
+			importedChunks.add(new int[] { users.size(), firstRow });
+			return IntStream.range(0, users.size())
+					.mapToObj(i -> users.get(i).getNome().isBlank()
+							? UserImportResult.failed(firstRow + i, users.get(i).getEmail(), "Nome inválido.")
+							: UserImportResult.created(firstRow + i, users.get(i)))
+					.toList();
+		});
+	}
+
+	@Test
+	@DisplayName("Should import a JSON array and an NDJSON stream the same way")
+	void shouldImportJsonArrayAndNdjson() throws Exception {
+		UserImportResponse fromArray = importBody("[" + rows(0, 3, ",") + "]");
+		List<int[]> arrayChunks = importedChunks;
+		importedChunks = new ArrayList<>();
+		UserImportResponse fromNdjson = importBody(rows(0, 3, "\n") + "\n");
+
+		assertEquals(3, fromArray.getTotal());
+		assertEquals(3, fromArray.getCreated());
+		assertTrue(fromArray.getFailures().isEmpty());
+		assertEquals(fromArray, fromNdjson);
+		assertEquals(1, arrayChunks.size());
+		assertEquals(1, importedChunks.size());
+	}
+
+	@Test
+	@DisplayName("Should persist an import in chunks, numbering rows across chunk boundaries")
+	void shouldImportInChunks() throws Exception {
+		int rows = 2 * UserController.IMPORT_CHUNK_SIZE + 1;
+
+		UserImportResponse report = importBody(rows(0, rows, "\n"));
+
+		assertEquals(rows, report.getTotal());
+		assertEquals(rows, report.getCreated());
+		assertEquals(List.of(UserController.IMPORT_CHUNK_SIZE, UserController.IMPORT_CHUNK_SIZE, 1),
+				importedChunks.stream().map(chunk -> chunk[0]).toList());
+		assertEquals(List.of(0, UserController.IMPORT_CHUNK_SIZE, 2 * UserController.IMPORT_CHUNK_SIZE),
+				importedChunks.stream().map(chunk -> chunk[1]).toList());
+	}
+
+	@Test
+	@DisplayName("Should keep the rows read before a malformed document and report where it stopped")
+	void shouldStopAtInvalidJson() throws Exception {
+		UserImportResponse report = importBody("[" + rows(0, 2, ",") + ", {\"nome\": ]");
+
+		assertEquals(3, report.getTotal());
+		assertEquals(2, report.getCreated());
+		assertEquals(1, report.getFailed());
+		assertEquals(2, report.getFailures().get(0).getRow());
+		assertEquals("JSON inválido.", report.getFailures().get(0).getMessage());
+		assertEquals(2, importedChunks.get(0)[0]);
+	}
+
+	@Test
+	@DisplayName("Should report a null row as failed and keep importing the rows after it")
+	void shouldReportNullRowAndContinue() throws Exception {
+		UserImportResponse report = importBody("[" + rows(0, 2, ",") + ", null, " + rows(2, 4, ",") + "]");
+
+		assertEquals(5, report.getTotal());
+		assertEquals(4, report.getCreated());
+		assertEquals(1, report.getFailures().size());
+		UserImportResult failure = report.getFailures().get(0);
+		assertEquals(2, failure.getRow());
+		assertNull(failure.getEmail());
+		assertEquals("Linha inválida.", failure.getMessage());
+		assertEquals(List.of(0, 3), importedChunks.stream().map(chunk -> chunk[1]).toList());
+	}
+
+	@Test
+	@DisplayName("Should report NDJSON rows that are not users as failed and keep importing")
+	void shouldReportMismatchedNdjsonRowsAndContinue() throws Exception {
+		UserImportResponse report = importBody(row(0) + "\nnull\n{\"nome\":{\"x\":[1]}}\n42\n" + row(4));
+
+		assertEquals(5, report.getTotal());
+		assertEquals(2, report.getCreated());
+		assertEquals(List.of(1, 2, 3), report.getFailures().stream().map(UserImportResult::getRow).toList());
+		assertEquals(List.of(0, 4), importedChunks.stream().map(chunk -> chunk[1]).toList());
+	}
+
+	@Test
+	@DisplayName("Should list only failed rows in the report, up to its limit")
+	void shouldListOnlyFailuresInReport() throws Exception {
+		int rows = UserImportResponse.MAX_REPORTED_FAILURES + 10;
+		String body = IntStream.range(0, rows)
+				.mapToObj(i -> i == 0 ? row(i) : "{\"nome\":\"\",\"email\":\"x" + i + "@teste.com\",\"senha\":\"pwd\"}")
+				.collect(Collectors.joining("\n"));
+
+		UserImportResponse report = importBody(body);
+
+		assertEquals(rows, report.getTotal());
+		assertEquals(1, report.getCreated());
+		assertEquals(rows - 1, report.getFailed());
+		assertEquals(UserImportResponse.MAX_REPORTED_FAILURES, report.getFailures().size());
+		assertEquals(1, report.getFailures().get(0).getRow());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should update conditionally on a strong If-Match and reject a weak one with 412")
+	void shouldRequireStrongIfMatch() {
+		UserRequest request = new UserRequest("Ana", "ana@teste.com", null);
+		when(userService.updateUserIfMatch(eq(1L), eq(3L), any(User.class)))
+				.thenReturn(new User(1L, "Ana", "ana@teste.com", null, 4L));
+
+		assertEquals("\"4\"", controller.update(1L, "\"3\"", null, request).getHeaders().getETag());
+		UserVersionConflictException exception = assertThrows(UserVersionConflictException.class,
+				() -> controller.update(1L, "W/\"3\"", null, request));
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED,
+				new GlobalExceptionHandler().handleUserVersionConflictException(exception).getStatusCode());
+		verify(userService, times(1)).updateUserIfMatch(any(), any(), any());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should give each format of a user its own strong ETag and accept any of them in If-Match")
+	void shouldTagEachUserFormat() {
+		when(userService.getUserById(1L)).thenReturn(Optional.of(new UserSummary(1L, "Ana", "ana@teste.com", 3L)));
+		when(userService.updateUserIfMatch(eq(1L), eq(3L), any(User.class)))
+				.thenReturn(new User(1L, "Ana", "ana@teste.com", null, 4L));
+
+		ResponseEntity<UserResponse> json = getById(null, null);
+		ResponseEntity<UserResponse> smile = getById(UserController.APPLICATION_SMILE_VALUE, null);
+		ResponseEntity<UserResponse> cbor = getById("application/json;q=0.5, application/cbor", null);
+
+		assertEquals("\"3\"", json.getHeaders().getETag());
+		assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+		assertEquals("\"3-smile\"", smile.getHeaders().getETag());
+		assertEquals(UserController.APPLICATION_SMILE_VALUE, smile.getHeaders().getContentType().toString());
+		assertEquals("\"3-cbor\"", cbor.getHeaders().getETag());
+		assertEquals(MediaType.APPLICATION_CBOR, cbor.getHeaders().getContentType());
+		assertNull(getById(UserController.APPLICATION_SMILE_VALUE, "\"3-smile\""));
+		assertEquals(HttpStatus.OK, getById("application/cbor", "\"3-smile\"").getStatusCode());
+
+		ResponseEntity<UserResponse> updated = controller.update(1L, "\"3-smile\"",
+				UserController.APPLICATION_SMILE_VALUE, new UserRequest("Ana", "ana@teste.com", null));
+		assertEquals("\"4-smile\"", updated.getHeaders().getETag());
+	}
+
+	@Test
+	@DisplayName("Should stream the listing as JSON when the client does not ask for a binary format")
+	void shouldStreamJsonByDefault() throws Exception {
+		for (String accept : new String[] { null, "*/*", "application/json", "text/html, application/xml" }) {
+			MockHttpServletResponse response = getAll(accept, null);
+
+			assertEquals("application/json;charset=UTF-8", response.getContentType());
+			assertEquals(HttpHeaders.ACCEPT, response.getHeader(HttpHeaders.VARY));
+			assertEquals(List.of("Ana", "Bia"), names(new ObjectMapper(), response));
+		}
+	}
+
+	@Test
+	@DisplayName("Should stream the listing as Smile or CBOR when the client asks for it")
+	void shouldStreamBinaryFormats() throws Exception {
+		MockHttpServletResponse smile = getAll(UserController.APPLICATION_SMILE_VALUE, null);
+		MockHttpServletResponse cbor = getAll("application/json;q=0.5, application/cbor", null);
+
+		assertEquals(UserController.APPLICATION_SMILE_VALUE, smile.getContentType());
+		assertEquals(List.of("Ana", "Bia"), names(new ObjectMapper(new SmileFactory()), smile));
+		assertEquals("application/cbor", cbor.getContentType());
+		assertEquals(List.of("Ana", "Bia"), names(new ObjectMapper(new CBORFactory()), cbor));
+	}
+
+	@Test
+	@DisplayName("Should fall back to JSON when the Accept header is malformed")
+	void shouldFallBackToJsonOnMalformedAccept() throws Exception {
+		MockHttpServletResponse response = getAll("application/cbor;;q=", null);
+
+		assertEquals("application/json;charset=UTF-8", response.getContentType());
+		assertEquals(List.of("Ana", "Bia"), names(new ObjectMapper(), response));
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should answer an unchanged listing with 304 and Vary: Accept without reading users")
+	void shouldVaryByAcceptOnNotModified() throws Exception {
+		MockHttpServletResponse response = getAll(UserController.APPLICATION_SMILE_VALUE, "W/\"users-7\"");
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+		assertEquals(HttpHeaders.ACCEPT, response.getHeader(HttpHeaders.VARY));
+		assertEquals(0, response.getContentAsByteArray().length);
+		verify(userService, never()).forEachUser(any());
+	}
+
+	private MockHttpServletResponse getAll(String accept, String ifNoneMatch) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+		if (accept != null) {
+			request.addHeader(HttpHeaders.ACCEPT, accept);
+		}
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.getAll(accept, response, new ServletWebRequest(request, response));
+		return response;
+	}
+
+	private ResponseEntity<UserResponse> getById(String accept, String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return controller.getById(1L, accept, new ServletWebRequest(request, new MockHttpServletResponse()));
+	}
+
+	private static List<String> names(ObjectMapper mapper, MockHttpServletResponse response) throws Exception {
+		return mapper.readTree(response.getContentAsByteArray()).findValuesAsText("nome");
+	}
+
+	private UserImportResponse importBody(String body) throws Exception {
+		return controller.importUsers(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))).getBody();
+	}
+
+	private static String rows(int from, int to, String separator) {
+		return IntStream.range(from, to).mapToObj(UserControllerTest::row).collect(Collectors.joining(separator));
+	}
+
+	private static String row(int index) {
+		return "{\"nome\":\"Usuário " + index + "\",\"email\":\"usuario" + index + "@teste.com\",\"senha\":\"pwd\"}";
+	}
+}
@@ -0,0 +1,57 @@
+package br.com.eaugusto.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserSummary;
+import br.com.eaugusto.repository.projection.UserUpdateResult;
+
+/**
+ * Runs the native writes of {@link IUserRepository} against the in-memory H2
+ * database, through the H2 form chosen by {@link ReturningStatements}; the
+ * PostgreSQL form differs only in how the touched columns are returned.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@DataJpaTest
+class UserRepositoryTest {
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Test
+	@DisplayName("Should update a user in one statement only if its version matches")
+	void shouldUpdateIfVersionMatches() {
+		User saved = userRepository.saveAndFlush(new User(null, "Ana", "ana@teste.com", "h1"));
+		Long id = saved.getId();
+
+		assertEquals(Optional.of(new UserUpdateResult(saved.getVersao() + 1, "ana@teste.com")),
+				userRepository.updateIfVersionMatches(id, saved.getVersao(), "Ana Maria", "ana.maria@teste.com", null));
+		assertTrue(userRepository.updateIfVersionMatches(id, saved.getVersao(), "Ana", "ana@teste.com", "h2")
+				.isEmpty());
+		assertTrue(userRepository.updateIfVersionMatches(id + 1, 0L, "Bia", "bia@teste.com", null).isEmpty());
+
+		assertEquals(new UserSummary(id, "Ana Maria", "ana.maria@teste.com", saved.getVersao() + 1),
+				userRepository.findSummaryById(id).orElseThrow());
+		assertEquals("h1", userRepository.findCredentialsByEmail("ana.maria@teste.com").orElseThrow().senha());
+	}
+
+	@Test
+	@DisplayName("Should delete a user in one statement and return its email")
+	void shouldDeleteAndReturnEmail() {
+		Long id = userRepository.saveAndFlush(new User(null, "Ana", "ana@teste.com", "h1")).getId();
+
+		assertEquals(Optional.of("ana@teste.com"), userRepository.deleteReturningEmail(id));
+		assertTrue(userRepository.findSummaryById(id).isEmpty());
+		assertTrue(userRepository.deleteReturningEmail(id).isEmpty());
+	}
+}
@@ -0,0 +1,45 @@
+package br.com.eaugusto.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import br.com.eaugusto.model.UserTableVersion;
+
+/**
+ * Runs the native statements of {@link IUserTableVersionRepository} against the
+ * in-memory H2 database, through the H2 form chosen by
+ * {@link ReturningStatements}; the PostgreSQL form differs only in how the new
+ * value is returned.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@DataJpaTest
+class UserTableVersionRepositoryTest {
+
+	@Autowired
+	private IUserTableVersionRepository tableVersionRepository;
+
+	@Test
+	@DisplayName("Should increment the users table version and return the new value")
+	void shouldIncrementAndReturnVersion() {
+		tableVersionRepository.saveAndFlush(new UserTableVersion(UserTableVersion.SINGLETON_ID, 5L));
+
+		assertEquals(Optional.of(8L), tableVersionRepository.incrementAndGet(3));
+		assertEquals(Optional.of(9L), tableVersionRepository.incrementAndGet(1));
+		assertEquals(Optional.of(9L), tableVersionRepository.findCurrent());
+	}
+
+	@Test
+	@DisplayName("Should return nothing when the version row was never created")
+	void shouldReturnEmptyWithoutVersionRow() {
+		assertTrue(tableVersionRepository.incrementAndGet(1).isEmpty());
+	}
+}
@@ -0,0 +1,169 @@
+package br.com.eaugusto.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.eaugusto.exception.GlobalExceptionHandler;
+import br.com.eaugusto.exception.PasswordHashingUnavailableException;
+
+/**
+ * Unit tests for {@link HashingPasswordEncoder} on a pool of one thread and a
+ * queue of one slot. The delegate blocks on {@code "block"} until released, so
+ * the pool can be filled deterministically.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class HashingPasswordEncoderTest {
+
+	private static final String BLOCK = "block";
+
+	private CountDownLatch release;
+	private ExecutorService callers;
+	private HashingPasswordEncoder encoder;
+
+	@BeforeEach
+	void setup() {
+		release = new CountDownLatch(1);
+		callers = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void teardown() {
+		release.countDown();
+		callers.shutdownNow();
+		if (encoder != null) {
+			encoder.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Should reject with 503 when the only thread and the only queue slot are taken")
+	void shouldRejectWhenSaturated() throws Exception {
+		encoder = new HashingPasswordEncoder(new BlockingEncoder(), 1, 1, 5_000);
+		Future<String> running = callers.submit(() -> encoder.encode(BLOCK));
+		awaitPool(1, 0);
+		Future<String> queued = callers.submit(() -> encoder.encode(BLOCK));
+		awaitPool(1, 1);
+
+		PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+				() -> encoder.encode("senha"));
+
+		assertEquals(1, encoder.getRejectedCount());
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+				new GlobalExceptionHandler().handlePasswordHashingUnavailableException(exception).getStatusCode());
+
+		release.countDown();
+		assertEquals("hash:" + BLOCK, running.get(5, TimeUnit.SECONDS));
+		assertEquals("hash:" + BLOCK, queued.get(5, TimeUnit.SECONDS));
+		assertEquals("hash:senha", encoder.encode("senha"));
+	}
+
+	@Test
+	@DisplayName("Should give up with PasswordHashingUnavailableException when hashing outlasts the timeout")
+	void shouldTimeOut() {
+		encoder = new HashingPasswordEncoder(new BlockingEncoder(), 1, 1, 50);
+
+		PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class,
+				() -> encoder.matches(BLOCK, "hash:" + BLOCK));
+
+		assertEquals("Password hashing timed out", exception.getMessage());
+		assertEquals(0, encoder.getRejectedCount());
+		assertEquals("hash:senha", encoder.encode("senha"));
+	}
+
+	@Test
+	@DisplayName("Should return the encoded passwords of a batch in input order")
+	void shouldKeepInputOrderInBatches() {
+		encoder = new HashingPasswordEncoder(new BlockingEncoder(), 4, 8, 5_000);
+		List<String> passwords = IntStream.range(0, 50).mapToObj(i -> "senha" + i).toList();
+
+		List<String> encoded = encoder.encodeAll(passwords);
+
+		assertEquals(passwords.stream().map(password -> "hash:" + password).toList(), encoded);
+		assertTrue(encoder.getCompletedCount() > 0);
+	}
+
+	@Test
+	@DisplayName("Should leave pool threads to logins while a batch is being hashed")
+	void shouldCapBatchParallelism() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger mostRunning = new AtomicInteger();
+		PasswordEncoder counting = new BlockingEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					return super.encode(rawPassword);
+				} finally {
+					running.decrementAndGet();
+				}
+			}
+		};
+		encoder = new HashingPasswordEncoder(counting, 4, 8, 5_000, 2);
+		List<String> passwords = IntStream.range(0, 40).mapToObj(i -> "senha" + i).toList();
+
+		Future<List<String>> batch = callers.submit(() -> encoder.encodeAll(passwords));
+		String login = encoder.encode("login");
+
+		assertEquals("hash:login", login);
+		assertEquals(40, batch.get(5, TimeUnit.SECONDS).size());
+		assertTrue(mostRunning.get() <= 3, "batch and login together used " + mostRunning.get() + " threads");
+		assertThrows(IllegalArgumentException.class, () -> new HashingPasswordEncoder(counting, 2, 8, 5_000, 3));
+	}
+
+	private void awaitPool(int active, int queued) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (encoder.getActiveCount() != active || encoder.getQueueDepth() != queued) {
+			if (System.nanoTime() > deadline) {
+				throw new AssertionError("Hashing pool never reached " + active + " active and " + queued + " queued");
+			}
+			Thread.sleep(1);
+		}
+	}
+
+	/**
+	 * Prefixes passwords with {@code hash:}, blocking on {@link #BLOCK} until the
+	 * test releases it. Later passwords of a batch hash faster, so a batch that
+	 * came back in completion order would fail the order test.
+	 */
+	private class BlockingEncoder implements PasswordEncoder {
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			String password = rawPassword.toString();
+			try {
+				if (BLOCK.equals(password)) {
+					release.await();
+				} else if (password.startsWith("senha") && password.length() > 5) {
+					Thread.sleep(Math.max(0, 10 - Integer.parseInt(password.substring(5)) / 5));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "hash:" + password;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+	}
+}
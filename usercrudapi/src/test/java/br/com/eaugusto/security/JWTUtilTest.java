@@ -0,0 +1,190 @@
+package br.com.eaugusto.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.eaugusto.security.JWTUtil.TokenType;
+import br.com.eaugusto.security.JWTUtil.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Unit tests for the access/refresh tokens issued by {@link JWTUtil} and for
+ * the {@link TokenRevocationList} and {@link RefreshTokenFamilies} they are
+ * checked against, including a list small enough that its Bloom filter is
+ * rebuilt several times and a session map holding only two sessions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class JWTUtilTest {
+
+	private static final String SECRET = "secret";
+	private static final String EMAIL = "eduardo@teste.com";
+
+	private TokenRevocationList revocations;
+	private RefreshTokenFamilies families;
+	private JWTUtil jwtUtil;
+
+	@BeforeEach
+	void setup() {
+		revocations = new TokenRevocationList(4);
+		families = new RefreshTokenFamilies(2, Duration.ofDays(14));
+		jwtUtil = new JWTUtil(SECRET, 100, Duration.ofMinutes(15), Duration.ofDays(14), revocations, families);
+	}
+
+	@Test
+	@DisplayName("Should issue access and refresh tokens that are only accepted for their own use")
+	void shouldSeparateAccessAndRefreshTokens() {
+		String accessToken = jwtUtil.generateToken(EMAIL);
+		String refreshToken = jwtUtil.generateRefreshToken(EMAIL);
+
+		VerifiedToken access = jwtUtil.verifyAccessToken(accessToken);
+		VerifiedToken refresh = jwtUtil.verifyRefreshToken(refreshToken);
+
+		assertEquals(EMAIL, access.subject());
+		assertEquals(TokenType.ACCESS, access.type());
+		assertEquals(TokenType.REFRESH, refresh.type());
+		assertNotNull(access.id());
+		assertTrue(refresh.expiresAtMillis() - access.expiresAtMillis() > Duration.ofDays(13).toMillis());
+		assertThrows(UnsupportedJwtException.class, () -> jwtUtil.extractEmail(refreshToken));
+		assertThrows(UnsupportedJwtException.class, () -> jwtUtil.verifyRefreshToken(accessToken));
+	}
+
+	@Test
+	@DisplayName("Should reject a revoked access token even when it is already cached")
+	void shouldRejectRevokedCachedToken() {
+		String token = jwtUtil.generateToken(EMAIL);
+		VerifiedToken verified = jwtUtil.verifyAccessToken(token);
+
+		assertTrue(jwtUtil.revoke(verified));
+		assertFalse(jwtUtil.revoke(verified));
+
+		assertThrows(RevokedJwtException.class, () -> jwtUtil.extractEmail(token));
+		assertEquals(EMAIL, jwtUtil.extractEmail(jwtUtil.generateToken(EMAIL)));
+	}
+
+	@Test
+	@DisplayName("Should accept only the current refresh token of a session")
+	void shouldRotateRefreshTokensWithinSession() {
+		VerifiedToken first = jwtUtil.verifyRefreshToken(jwtUtil.generateRefreshToken(EMAIL));
+
+		String second = jwtUtil.rotateRefreshToken(first);
+
+		VerifiedToken rotated = jwtUtil.verifyRefreshToken(second);
+		assertEquals(first.family(), rotated.family());
+		assertThrows(RevokedJwtException.class, () -> jwtUtil.rotateRefreshToken(first));
+		assertTrue(jwtUtil.revoke(rotated));
+		assertThrows(RevokedJwtException.class, () -> jwtUtil.verifyRefreshToken(second));
+		assertEquals(0, revocations.size());
+	}
+
+	/**
+	 * The session map holds two families here: starting a third drops one, whose
+	 * token is then rejected rather than accepted unchecked.
+	 */
+	@Test
+	@DisplayName("Should reject refresh tokens of sessions dropped to stay within the limit")
+	void shouldFailClosedWhenSessionsOverflow() {
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			tokens.add(jwtUtil.generateRefreshToken(EMAIL));
+		}
+
+		long accepted = tokens.stream().filter(token -> {
+			try {
+				jwtUtil.verifyRefreshToken(token);
+				return true;
+			} catch (RevokedJwtException e) {
+				return false;
+			}
+		}).count();
+
+		assertEquals(2, accepted);
+		assertEquals(2, families.size());
+	}
+
+	@Test
+	@DisplayName("Should accept tokens issued before token types and ids existed as access tokens")
+	void shouldAcceptLegacyTokens() throws Exception {
+		String legacy = Jwts.builder().setSubject(EMAIL).setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(Keys.hmacShaKeyFor(
+						MessageDigest.getInstance("SHA-256").digest(SECRET.getBytes(StandardCharsets.UTF_8))),
+						SignatureAlgorithm.HS256)
+				.compact();
+
+		VerifiedToken verified = jwtUtil.verifyAccessToken(legacy);
+
+		assertEquals(TokenType.ACCESS, verified.type());
+		assertNull(verified.id());
+		assertFalse(jwtUtil.revoke(verified));
+		assertThrows(UnsupportedJwtException.class, () -> jwtUtil.verifyRefreshToken(legacy));
+	}
+
+	/**
+	 * Revokes far more ids than the list was sized for: every revoked id must
+	 * still be found after the filter rebuilds, and ids never revoked must not,
+	 * whatever the filter's false positives.
+	 */
+	@Test
+	@DisplayName("Should find every revoked id and no other after the filter is rebuilt")
+	void shouldKeepRevocationsExactAcrossRebuilds() {
+		long expiresAt = System.currentTimeMillis() + 60_000;
+		List<String> revoked = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			String id = UUID.randomUUID().toString();
+			assertTrue(revocations.revoke(id, expiresAt));
+			revoked.add(id);
+		}
+
+		assertTrue(revoked.stream().allMatch(revocations::isRevoked));
+		for (int i = 0; i < 10_000; i++) {
+			assertFalse(revocations.isRevoked(UUID.randomUUID().toString()));
+		}
+		assertEquals(200, revocations.size());
+	}
+
+	@Test
+	@DisplayName("Should ignore revocations of expired tokens or tokens without an id")
+	void shouldIgnoreUselessRevocations() {
+		assertFalse(revocations.revoke("expired", System.currentTimeMillis() - 1));
+		assertFalse(revocations.revoke(null, System.currentTimeMillis() + 60_000));
+
+		assertFalse(revocations.isRevoked("expired"));
+		assertFalse(revocations.isRevoked(null));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException for invalid token settings")
+	void shouldThrowForInvalidSettings() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new JWTUtil(SECRET, 100, Duration.ZERO, Duration.ofDays(14), revocations, families));
+		assertThrows(IllegalArgumentException.class,
+				() -> new JWTUtil(SECRET, 100, Duration.ofDays(1), Duration.ofMinutes(15), revocations, families));
+		assertThrows(IllegalArgumentException.class,
+				() -> new JWTUtil(SECRET, 100, Duration.ofMinutes(15), Duration.ofDays(14), null, families));
+		assertThrows(IllegalArgumentException.class,
+				() -> new JWTUtil(SECRET, 100, Duration.ofMinutes(15), Duration.ofDays(14), revocations, null));
+		assertThrows(IllegalArgumentException.class, () -> new TokenRevocationList(0));
+		assertThrows(IllegalArgumentException.class, () -> new RefreshTokenFamilies(0, Duration.ofDays(14)));
+	}
+}
@@ -0,0 +1,53 @@
+package br.com.eaugusto.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Unit tests for {@link PublicRoutes}: which paths skip authentication, and on
+ * which port the Prometheus scrape endpoint does.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class PublicRoutesTest {
+
+	private static final int APP_PORT = 8080;
+	private static final int MANAGEMENT_PORT = 9090;
+
+	@Test
+	@DisplayName("Should make login and health public and keep the user API protected")
+	void shouldMatchPublicPaths() {
+		assertTrue(PublicRoutes.matches(request("/api/auth/login", APP_PORT), -1));
+		assertTrue(PublicRoutes.matches(request("/actuator/health", APP_PORT), -1));
+		assertFalse(PublicRoutes.matches(request("/api/users", APP_PORT), -1));
+		assertFalse(PublicRoutes.matches(request("/actuator/metrics", MANAGEMENT_PORT), MANAGEMENT_PORT));
+	}
+
+	@Test
+	@DisplayName("Should make the Prometheus endpoint public only on the management port")
+	void shouldOpenPrometheusOnlyOnManagementPort() {
+		assertTrue(PublicRoutes.matches(request("/actuator/prometheus", MANAGEMENT_PORT), MANAGEMENT_PORT));
+		assertFalse(PublicRoutes.matches(request("/actuator/prometheus", APP_PORT), MANAGEMENT_PORT));
+		assertFalse(PublicRoutes.matches(request("/actuator/prometheus", APP_PORT), -1));
+	}
+
+	@Test
+	@DisplayName("Should match paths relative to the context path")
+	void shouldStripContextPath() {
+		MockHttpServletRequest request = request("/app/api/auth/login", APP_PORT);
+		request.setContextPath("/app");
+
+		assertTrue(PublicRoutes.matches(request, -1));
+	}
+
+	private static MockHttpServletRequest request(String uri, int port) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setLocalPort(port);
+		return request;
+	}
+}
@@ -0,0 +1,270 @@
+package br.com.eaugusto.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.eaugusto.config.CacheConfig;
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.IUserChangeEventRepository;
+import br.com.eaugusto.repository.IUserRepository;
+import br.com.eaugusto.repository.IUserTableVersionRepository;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.repository.projection.UserSummary;
+import br.com.eaugusto.repository.projection.UserUpdateResult;
+
+/**
+ * Tests the caching of {@link UserService} through the real Spring cache
+ * proxy and the caches of {@link CacheConfig}, with mocked repositories: which
+ * entries each write evicts, and that concurrent misses on one key reach the
+ * repository once. Counting repository calls shows whether a lookup was served
+ * by the cache.
+ * <p>
+ * {@code @SuppressWarnings("null")} is used on tests with Mockito matchers, for
+ * the STS4 null-analysis reason explained in {@code UserServiceTest}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+@SpringJUnitConfig(UserServiceCachingTest.Config.class)
+class UserServiceCachingTest {
+
+	private static final int CONCURRENT_CALLERS = 8;
+	private static final String ANA = "ana@teste.com";
+	private static final String BIA = "bia@teste.com";
+	private static final String NEW_EMAIL = "ana.nova@teste.com";
+
+	@Autowired
+	private IUserService userService;
+
+	@Autowired
+	private IUserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private ExecutorService callers;
+
+	@SuppressWarnings({ "null" })
+	@BeforeEach
+	void setup() {
+		Mockito.reset(userRepository, passwordEncoder);
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+
+		when(userRepository.findCredentialsByEmail(ANA)).thenReturn(Optional.of(new UserCredentials(1L, ANA, "h1")));
+		when(userRepository.findCredentialsByEmail(BIA)).thenReturn(Optional.of(new UserCredentials(2L, BIA, "h2")));
+		when(userRepository.findCredentialsByEmail(NEW_EMAIL)).thenReturn(Optional.empty());
+		when(userRepository.findSummaryById(1L)).thenReturn(Optional.of(new UserSummary(1L, "Ana", ANA, 3L)));
+		when(userRepository.findSummaryById(2L)).thenReturn(Optional.of(new UserSummary(2L, "Bia", BIA, 0L)));
+		when(userRepository.lockSummariesByIds(any())).thenReturn(List.of(new UserSummary(1L, "Ana", ANA, 3L)));
+	}
+
+	@AfterEach
+	void teardown() {
+		callers.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("Should share one email cache entry across spellings of the same email")
+	void shouldCacheByNormalizedEmail() {
+		userService.findCredentialsByEmail(ANA);
+		userService.findCredentialsByEmail(" Ana@Teste.COM ");
+
+		verify(userRepository, times(1)).findCredentialsByEmail(ANA);
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should leave the email cache alone on a login whose hash is up to date")
+	void shouldNotEvictOnLoginWithoutRehash() {
+		UserCredentials credentials = warmUp();
+		when(passwordEncoder.upgradeEncoding("h1")).thenReturn(false);
+
+		userService.upgradePasswordIfNeeded(credentials, "senha");
+
+		lookUpAgain();
+		verify(userRepository, times(1)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+		verify(userRepository, Mockito.never()).updatePassword(any(), any());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should evict only the rehashed user's email when a login upgrades its hash")
+	void shouldEvictOnlyRehashedEmail() {
+		UserCredentials credentials = warmUp();
+		when(passwordEncoder.upgradeEncoding("h1")).thenReturn(true);
+		when(passwordEncoder.encode("senha")).thenReturn("h1-new");
+
+		userService.upgradePasswordIfNeeded(credentials, "senha");
+
+		lookUpAgain();
+		verify(userRepository, times(2)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+		verify(userRepository, times(1)).findSummaryById(1L);
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should evict the id, the old email and the new email of an updated user")
+	void shouldEvictOldAndNewEmailOnUpdate() {
+		warmUp();
+		when(userRepository.findById(1L)).thenReturn(Optional.of(new User(1L, "Ana", ANA, "h1", 3L)));
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		userService.updateUser(1L, new User(null, "Ana", NEW_EMAIL, null));
+
+		lookUpAgain();
+		verify(userRepository, times(2)).findSummaryById(1L);
+		verify(userRepository, times(2)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(2)).findCredentialsByEmail(NEW_EMAIL);
+		verify(userRepository, times(1)).findSummaryById(2L);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should evict the id, the old email and the new email of a conditionally updated user")
+	void shouldEvictOldAndNewEmailOnConditionalUpdate() {
+		warmUp();
+		when(userRepository.updateIfVersionMatches(1L, 3L, "Ana", NEW_EMAIL, null))
+				.thenReturn(Optional.of(new UserUpdateResult(4L, ANA)));
+
+		userService.updateUserIfMatch(1L, 3L, new User(null, "Ana", NEW_EMAIL, null));
+
+		lookUpAgain();
+		verify(userRepository, times(2)).findSummaryById(1L);
+		verify(userRepository, times(2)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(2)).findCredentialsByEmail(NEW_EMAIL);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+	}
+
+	@Test
+	@DisplayName("Should evict the id and email of a deleted user only")
+	void shouldEvictDeletedUser() {
+		warmUp();
+		when(userRepository.deleteReturningEmail(1L)).thenReturn(Optional.of(ANA));
+
+		userService.deleteUser(1L);
+
+		lookUpAgain();
+		verify(userRepository, times(2)).findSummaryById(1L);
+		verify(userRepository, times(2)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(1)).findSummaryById(2L);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should evict the ids and emails of bulk deleted users only")
+	void shouldEvictBulkDeletedUsers() {
+		warmUp();
+		when(userRepository.deleteUsersByIds(any())).thenReturn(1);
+
+		assertEquals(1, userService.deleteUsers(List.of(1L, 9L)));
+
+		lookUpAgain();
+		verify(userRepository, times(2)).findSummaryById(1L);
+		verify(userRepository, times(2)).findCredentialsByEmail(ANA);
+		verify(userRepository, times(1)).findSummaryById(2L);
+		verify(userRepository, times(1)).findCredentialsByEmail(BIA);
+	}
+
+	/**
+	 * Many concurrent logins for an email that is not cached must load it once.
+	 * The first load blocks until every caller has been started; whether the
+	 * others wait on the entry being loaded or arrive once it is cached, none of
+	 * them may reach the repository.
+	 */
+	@Test
+	@DisplayName("Should load a missing email entry once for concurrent lookups")
+	void shouldLoadMissingEntryOnce() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(userRepository.findCredentialsByEmail(ANA)).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Optional.of(new UserCredentials(1L, ANA, "h1"));
+		});
+
+		List<Future<Optional<UserCredentials>>> results = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+			results.add(callers.submit(() -> userService.findCredentialsByEmail(ANA)));
+		}
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		release.countDown();
+
+		for (Future<Optional<UserCredentials>> result : results) {
+			assertEquals(1L, result.get(5, TimeUnit.SECONDS).orElseThrow().id());
+		}
+		verify(userRepository, times(1)).findCredentialsByEmail(ANA);
+	}
+
+	private UserCredentials warmUp() {
+		UserCredentials credentials = userService.findCredentialsByEmail(ANA).orElseThrow();
+		userService.findCredentialsByEmail(BIA);
+		userService.findCredentialsByEmail(NEW_EMAIL);
+		userService.getUserById(1L);
+		userService.getUserById(2L);
+		return credentials;
+	}
+
+	private void lookUpAgain() {
+		warmUp();
+	}
+
+	@Configuration
+	@Import(CacheConfig.class)
+	static class Config {
+
+		@Bean
+		IUserRepository userRepository() {
+			return Mockito.mock(IUserRepository.class);
+		}
+
+		@Bean
+		PasswordEncoder passwordEncoder() {
+			return Mockito.mock(PasswordEncoder.class);
+		}
+
+		@Bean
+		UserService userService(IUserRepository userRepository, PasswordEncoder passwordEncoder,
+				ApplicationEventPublisher eventPublisher, CacheManager cacheManager) {
+			return new UserService(userRepository, Mockito.mock(IUserTableVersionRepository.class),
+					Mockito.mock(IUserChangeEventRepository.class), passwordEncoder, eventPublisher,
+					Mockito.mock(PlatformTransactionManager.class), cacheManager);
+		}
+	}
+}
@@ -5,13 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,16 +30,33 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import br.com.eaugusto.exception.InvalidUserDataException;
 import br.com.eaugusto.exception.UserNotFoundException;
+import br.com.eaugusto.exception.UserVersionConflictException;
 import br.com.eaugusto.model.User;
+import br.com.eaugusto.model.UserChangeEvent;
+import br.com.eaugusto.model.UserChangeType;
+import br.com.eaugusto.repository.IUserChangeEventRepository;
 import br.com.eaugusto.repository.IUserRepository;
+import br.com.eaugusto.repository.IUserTableVersionRepository;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.repository.projection.UserSummary;
+import br.com.eaugusto.repository.projection.UserUpdateResult;
 
 /**
  * Comprehensive unit tests for {@link UserService} with the goal of achieving
@@ -58,22 +86,50 @@ import br.com.eaugusto.repository.IUserRepository;
  */
 class UserServiceTest {
 
+	private static final int CONCURRENT_CALLERS = 8;
+
 	@Mock
 	private IUserRepository userRepository;
 
+	@Mock
+	private IUserTableVersionRepository tableVersionRepository;
+
+	@Mock
+	private IUserChangeEventRepository changeEventRepository;
+
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private CacheManager cacheManager;
+
 	@InjectMocks
 	private UserService userService;
 
 	private User validUser;
+	private UserSummary validSummary;
+	private UserCredentials validCredentials;
 
 	@BeforeEach
 	void setup() {
 		MockitoAnnotations.openMocks(this);
 
 		validUser = User.builder().id(1L).nome("Eduardo").email("eduardo@teste.com").senha("123456").build();
+		validSummary = new UserSummary(1L, "Eduardo", "eduardo@teste.com", 0L);
+		validCredentials = new UserCredentials(1L, "eduardo@teste.com", "123456");
+
+		when(cacheManager.getCache(any())).thenAnswer(invocation -> new ConcurrentMapCache(invocation.getArgument(0)));
+		when(userRepository.lockSummariesByIds(any())).thenAnswer(invocation -> {
+			List<Long> ids = invocation.getArgument(0);
+			return ids == null ? List.of()
+					: ids.stream().map(id -> new UserSummary(id, "Eduardo", "eduardo@teste.com", 3L)).toList();
+		});
 	}
 
 	/**
@@ -94,6 +150,110 @@ class UserServiceTest {
 		verify(userRepository).save(any(User.class));
 	}
 
+	/**
+	 * Every write bumps the users table version used as the listing ETag.
+	 * Suppression is used to avoid STS4 false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should increment users table version in one statement when saving user")
+	void shouldIncrementUsersVersionWhenSavingUser() {
+		when(passwordEncoder.encode("123456")).thenReturn("ENCODED");
+		when(userRepository.save(any(User.class))).thenReturn(validUser);
+		when(tableVersionRepository.incrementAndGet(1L)).thenReturn(Optional.of(8L));
+
+		userService.saveUser(validUser);
+
+		verify(tableVersionRepository).incrementAndGet(1L);
+		verify(tableVersionRepository, Mockito.never()).save(any());
+		verify(tableVersionRepository, Mockito.never()).findCurrent();
+	}
+
+	/**
+	 * Every write records its changes in the change feed, numbered with the users
+	 * table versions it took, and announces the new version. Suppression is used
+	 * to avoid STS4 false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null", "unchecked" })
+	@Test
+	@DisplayName("Should record one change per imported user, numbered with the new users versions")
+	void shouldRecordChangesNumberedWithUsersVersions() {
+		List<User> chunk = List.of(new User(null, "Ana", "ana@teste.com", "pwd1"),
+				new User(null, "Bia", "bia@teste.com", "pwd2"), new User(null, "Caio", "caio@teste.com", "pwd3"));
+		when(passwordEncoder.encode(any())).thenReturn("ENC");
+		when(userRepository.saveAll(any(List.class))).thenAnswer(invocation -> {
+			List<User> users = invocation.getArgument(0);
+			long id = 100;
+			for (User user : users) {
+				user.setId(id++);
+			}
+			return users;
+		});
+		when(tableVersionRepository.incrementAndGet(3L)).thenReturn(Optional.of(10L));
+
+		userService.importUsers(chunk, 0);
+
+		ArgumentCaptor<List<UserChangeEvent>> changes = ArgumentCaptor.forClass(List.class);
+		verify(changeEventRepository).saveAll(changes.capture());
+		assertEquals(List.of(8L, 9L, 10L), changes.getValue().stream().map(UserChangeEvent::getVersao).toList());
+		assertEquals(List.of(100L, 101L, 102L),
+				changes.getValue().stream().map(UserChangeEvent::getUsuarioId).toList());
+		assertEquals(UserChangeType.CREATED, changes.getValue().get(0).getTipo());
+		assertEquals("bia@teste.com", changes.getValue().get(1).getEmail());
+		verify(eventPublisher).publishEvent(new UsersChangedEvent(10L));
+	}
+
+	@Test
+	@DisplayName("Should record a DELETED change when deleting a user")
+	void shouldRecordDeletedChange() {
+		when(userRepository.deleteReturningEmail(1L)).thenReturn(Optional.of("eduardo@teste.com"));
+
+		userService.deleteUser(1L);
+
+		verify(changeEventRepository).saveAll(
+				Mockito.<List<UserChangeEvent>>argThat(changes -> changes.size() == 1 && changes.get(0).getVersao() == 1L
+						&& changes.get(0).getTipo() == UserChangeType.DELETED && changes.get(0).getNome() == null));
+		verify(eventPublisher).publishEvent(new UsersChangedEvent(1L));
+	}
+
+	@Test
+	@DisplayName("Should read changes after the given version, from the beginning when absent")
+	void shouldReadChangesSince() {
+		UserChangeEvent change = UserChangeEvent.of(UserChangeType.UPDATED, 1L, "Eduardo", "eduardo@teste.com");
+		when(changeEventRepository.findByVersaoGreaterThanOrderByVersaoAsc(5L, Limit.of(10)))
+				.thenReturn(List.of(change));
+
+		assertEquals(List.of(change), userService.getChangesSince(5L, 10));
+		userService.getChangesSince(null, 10);
+
+		verify(changeEventRepository).findByVersaoGreaterThanOrderByVersaoAsc(0L, Limit.of(10));
+		assertThrows(InvalidUserDataException.class, () -> userService.getChangesSince(5L, 0));
+		assertThrows(InvalidUserDataException.class,
+				() -> userService.getChangesSince(5L, UserService.MAX_PAGE_SIZE + 1));
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should create users table version row on first write")
+	void shouldCreateUsersVersionRowOnFirstWrite() {
+		when(userRepository.deleteReturningEmail(1L)).thenReturn(Optional.of("eduardo@teste.com"));
+		when(tableVersionRepository.incrementAndGet(1L)).thenReturn(Optional.empty());
+
+		userService.deleteUser(1L);
+
+		verify(tableVersionRepository).save(any());
+	}
+
+	@Test
+	@DisplayName("Should return users table version, or zero before the first write")
+	void shouldReturnUsersVersion() {
+		when(tableVersionRepository.findCurrent()).thenReturn(Optional.of(7L));
+		assertEquals(7L, userService.getUsersVersion());
+
+		when(tableVersionRepository.findCurrent()).thenReturn(Optional.empty());
+		assertEquals(0L, userService.getUsersVersion());
+	}
+
 	@Test
 	@DisplayName("Should throw InvalidUserDataException when saving null user")
 	void shouldThrowWhenSavingNullUser() {
@@ -142,6 +302,82 @@ class UserServiceTest {
 		assertThrows(InvalidUserDataException.class, () -> userService.saveUser(u));
 	}
 
+	/**
+	 * Imports a chunk mixing valid, invalid, repeated and already registered rows,
+	 * and verifies one existence lookup, one batched save and one result per row.
+	 * Suppression is used to avoid STS4 false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null", "unchecked" })
+	@Test
+	@DisplayName("Should import valid rows and report each rejected row")
+	void shouldImportValidRowsAndReportRejectedOnes() {
+		List<User> chunk = List.of(new User(null, "Ana", "Ana@Teste.com", "pwd1"),
+				new User(null, "", "blank@teste.com", "pwd2"), new User(null, "Ana 2", "ana@teste.com", "pwd3"),
+				new User(null, "Bia", "bia@teste.com", "pwd4"), new User(null, "Caio", "caio@teste.com", "pwd5"));
+		when(userRepository.findExistingEmails(any())).thenReturn(Set.of("bia@teste.com"));
+		when(passwordEncoder.encode(any())).thenAnswer(invocation -> "ENC_" + invocation.getArgument(0));
+		when(userRepository.saveAll(any(List.class))).thenAnswer(invocation -> {
+			List<User> users = invocation.getArgument(0);
+			long id = 100;
+			for (User user : users) {
+				user.setId(id++);
+			}
+			return users;
+		});
+
+		List<UserImportResult> results = userService.importUsers(chunk, 10);
+
+		assertEquals(5, results.size());
+		assertEquals(List.of(10, 11, 12, 13, 14), results.stream().map(UserImportResult::getRow).toList());
+		assertEquals(List.of(UserImportResult.Status.CREATED, UserImportResult.Status.FAILED,
+				UserImportResult.Status.FAILED, UserImportResult.Status.FAILED, UserImportResult.Status.CREATED),
+				results.stream().map(UserImportResult::getStatus).toList());
+		assertEquals(100L, results.get(0).getId());
+		assertEquals(101L, results.get(4).getId());
+		assertEquals("ENC_pwd1", chunk.get(0).getSenha());
+		verify(userRepository, times(1)).findExistingEmails(any());
+		verify(userRepository, times(1)).saveAll(any(List.class));
+		verify(userRepository, Mockito.never()).save(any(User.class));
+	}
+
+	/**
+	 * Imports a chunk and verifies the transactions it opens: one around the
+	 * email lookup and one around the insert, with the passwords hashed in
+	 * between, while neither is open. Suppression is used to avoid STS4
+	 * false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null", "unchecked" })
+	@Test
+	@DisplayName("Should hash imported passwords outside of any transaction")
+	void shouldHashImportedPasswordsOutsideTransactions() {
+		List<User> chunk = List.of(new User(null, "Ana", "ana@teste.com", "pwd1"));
+		TransactionStatus status = Mockito.mock(TransactionStatus.class);
+		when(transactionManager.getTransaction(any())).thenReturn(status);
+		when(userRepository.findExistingEmails(any())).thenReturn(Set.of());
+		when(passwordEncoder.encode(any())).thenReturn("ENC");
+		when(userRepository.saveAll(any(List.class))).thenAnswer(invocation -> {
+			invocation.<List<User>>getArgument(0).forEach(user -> user.setId(100L));
+			return invocation.getArgument(0);
+		});
+
+		userService.importUsers(chunk, 0);
+
+		InOrder inOrder = Mockito.inOrder(transactionManager, userRepository, passwordEncoder);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(userRepository).findExistingEmails(any());
+		inOrder.verify(transactionManager).commit(status);
+		inOrder.verify(passwordEncoder).encode("pwd1");
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(userRepository).saveAll(any(List.class));
+		inOrder.verify(transactionManager).commit(status);
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when importing null list")
+	void shouldThrowWhenImportingNullList() {
+		assertThrows(InvalidUserDataException.class, () -> userService.importUsers(null, 0));
+	}
+
 	@Test
 	@DisplayName("Should return all users")
 	void shouldReturnAllUsers() {
@@ -153,23 +389,68 @@ class UserServiceTest {
 		verify(userRepository).findAll();
 	}
 
+	@Test
+	@DisplayName("Should return keyset page starting after the given cursor")
+	void shouldReturnKeysetPage() {
+		when(userRepository.findSummariesAfter(10L, Limit.of(5))).thenReturn(List.of(validSummary));
+
+		List<UserSummary> page = userService.getUsersPage(10L, 5);
+
+		assertEquals(List.of(validSummary), page);
+		verify(userRepository).findSummariesAfter(10L, Limit.of(5));
+		verify(userRepository, Mockito.never()).findAll();
+	}
+
+	@Test
+	@DisplayName("Should start keyset page from the beginning when cursor is null")
+	void shouldStartKeysetPageFromBeginningWhenCursorIsNull() {
+		when(userRepository.findSummariesAfter(0L, Limit.of(5))).thenReturn(List.of(validSummary));
+
+		assertEquals(1, userService.getUsersPage(null, 5).size());
+	}
+
+	@ParameterizedTest
+	@MethodSource("invalidPageLimitProvider")
+	@DisplayName("Should throw InvalidUserDataException when page limit is out of range")
+	void shouldThrowWhenPageLimitIsOutOfRange(int limit) {
+		assertThrows(InvalidUserDataException.class, () -> userService.getUsersPage(null, limit));
+	}
+
+	private static Stream<Integer> invalidPageLimitProvider() {
+		return Stream.of(0, -1, UserService.MAX_PAGE_SIZE + 1);
+	}
+
+	@Test
+	@DisplayName("Should stream every user summary in order without loading entities")
+	void shouldStreamUserSummariesInOrder() {
+		UserSummary second = new UserSummary(2L, "Ana", "ana@teste.com", 0L);
+		when(userRepository.streamAllSummaries()).thenReturn(Stream.of(validSummary, second));
+
+		List<UserSummary> visited = new ArrayList<>();
+		userService.forEachUser(visited::add);
+
+		assertEquals(List.of(validSummary, second), visited);
+		verify(userRepository, Mockito.never()).findAll();
+	}
+
 	@Test
 	@DisplayName("Should return user by ID when present")
 	void shouldReturnUserById() {
-		when(userRepository.findById(1L)).thenReturn(Optional.of(validUser));
+		when(userRepository.findSummaryById(1L)).thenReturn(Optional.of(validSummary));
 
-		Optional<User> result = userService.getUserById(1L);
+		Optional<UserSummary> result = userService.getUserById(1L);
 
 		assertTrue(result.isPresent());
-		assertEquals("Eduardo", result.get().getNome());
+		assertEquals("Eduardo", result.get().nome());
+		verify(userRepository, Mockito.never()).findById(any());
 	}
 
 	@Test
 	@DisplayName("Should return empty optional when user is not found")
 	void shouldReturnEmptyOptionalWhenUserNotFound() {
-		when(userRepository.findById(1L)).thenReturn(Optional.empty());
+		when(userRepository.findSummaryById(1L)).thenReturn(Optional.empty());
 
-		Optional<User> result = userService.getUserById(1L);
+		Optional<UserSummary> result = userService.getUserById(1L);
 
 		assertTrue(result.isEmpty());
 	}
@@ -180,6 +461,197 @@ class UserServiceTest {
 		assertThrows(InvalidUserDataException.class, () -> userService.getUserById(null));
 	}
 
+	/**
+	 * Eight requests for the same user arrive while its query is still running:
+	 * the query stub holds until the seven other callers have joined it, so all
+	 * of them are in flight together, and only one reaches the repository. A
+	 * lookup made after that query returned runs its own.
+	 */
+	@Test
+	@DisplayName("Should run a single query for concurrent lookups of the same ID")
+	void shouldCoalesceConcurrentLookupsById() throws Exception {
+		when(userRepository.findSummaryById(1L)).thenAnswer(invocation -> {
+			awaitFollowers(userService.summariesInFlight);
+			return Optional.of(validSummary);
+		}).thenReturn(Optional.of(validSummary));
+
+		List<Optional<UserSummary>> results = callConcurrently(() -> userService.getUserById(1L));
+
+		assertTrue(results.stream().allMatch(result -> result.equals(Optional.of(validSummary))));
+		verify(userRepository, times(1)).findSummaryById(1L);
+
+		userService.getUserById(1L);
+		verify(userRepository, times(2)).findSummaryById(1L);
+	}
+
+	@Test
+	@DisplayName("Should run a single query for concurrent lookups of the same email in any case")
+	void shouldCoalesceConcurrentLookupsByEmail() throws Exception {
+		when(userRepository.findCredentialsByEmail("eduardo@teste.com")).thenAnswer(invocation -> {
+			awaitFollowers(userService.credentialsInFlight);
+			return Optional.of(validCredentials);
+		});
+		AtomicInteger caller = new AtomicInteger();
+
+		List<Optional<UserCredentials>> results = callConcurrently(() -> userService
+				.findCredentialsByEmail(caller.getAndIncrement() % 2 == 0 ? "Eduardo@Teste.com" : "eduardo@teste.com"));
+
+		assertTrue(results.stream().allMatch(result -> result.equals(Optional.of(validCredentials))));
+		verify(userRepository, times(1)).findCredentialsByEmail("eduardo@teste.com");
+	}
+
+	/**
+	 * A lookup made inside a transaction may need that transaction's own
+	 * uncommitted writes, which no other caller may see: it runs in the caller's
+	 * transaction and is never shared. Outside one, the shared query opens a
+	 * transaction of its own.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should coalesce only lookups made outside a transaction")
+	void shouldNotCoalesceLookupsInsideTransactions() {
+		when(userRepository.findSummaryById(1L)).thenReturn(Optional.of(validSummary));
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			userService.getUserById(1L);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+		verify(transactionManager, Mockito.never()).getTransaction(any());
+
+		userService.getUserById(1L);
+		verify(transactionManager, times(1)).getTransaction(any());
+		verify(userRepository, times(2)).findSummaryById(1L);
+	}
+
+	/**
+	 * Holds the first caller's query until every other caller has joined it,
+	 * counted by the flight itself.
+	 */
+	private static void awaitFollowers(SingleFlight<?, ?> flights) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (flights.getWaitingCount() < CONCURRENT_CALLERS - 1) {
+			assertTrue(System.nanoTime() < deadline, "Callers did not join the query in time");
+			Thread.sleep(1);
+		}
+	}
+
+	/**
+	 * Runs the call on {@value #CONCURRENT_CALLERS} threads at once.
+	 */
+	private static <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+				futures.add(executor.submit(call));
+			}
+
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(future.get(5, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Login resolves credentials through the indexed email lookup: exactly one
+	 * repository call, whatever the size of the table, and never a full scan.
+	 */
+	@Test
+	@DisplayName("Should find credentials by email with a single indexed lookup")
+	void shouldFindCredentialsByEmailWithSingleLookup() {
+		when(userRepository.findCredentialsByEmail("eduardo@teste.com")).thenReturn(Optional.of(validCredentials));
+
+		Optional<UserCredentials> result = userService.findCredentialsByEmail("  Eduardo@Teste.COM ");
+
+		assertTrue(result.isPresent());
+		verify(userRepository, times(1)).findCredentialsByEmail("eduardo@teste.com");
+		verify(userRepository, Mockito.never()).findAll();
+		verifyNoMoreInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("Should return empty optional when no user has the given email")
+	void shouldReturnEmptyOptionalWhenEmailNotFound() {
+		when(userRepository.findCredentialsByEmail("missing@teste.com")).thenReturn(Optional.empty());
+
+		assertTrue(userService.findCredentialsByEmail("missing@teste.com").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when finding credentials by null email")
+	void shouldThrowWhenFindingUserByNullEmail() {
+		assertThrows(InvalidUserDataException.class, () -> userService.findCredentialsByEmail(null));
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when finding credentials by blank email")
+	void shouldThrowWhenFindingUserByBlankEmail() {
+		assertThrows(InvalidUserDataException.class, () -> userService.findCredentialsByEmail(" "));
+	}
+
+	/**
+	 * Saves a user with a mixed-case email and verifies it is normalized before
+	 * reaching the repository. Suppression is used to avoid STS4 false-positives
+	 * on argument matchers.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should normalize email when saving user")
+	void shouldNormalizeEmailWhenSavingUser() {
+		User user = new User(null, "Name", " Name@Teste.COM ", "pwd");
+		when(passwordEncoder.encode("pwd")).thenReturn("ENCODED");
+		when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+			User toSave = invocation.getArgument(0);
+			toSave.setId(2L);
+			return toSave;
+		});
+
+		User saved = userService.saveUser(user);
+
+		assertEquals("name@teste.com", saved.getEmail());
+	}
+
+	@Test
+	@DisplayName("Should re-hash password on login when stored hash is outdated")
+	void shouldUpgradePasswordWhenHashIsOutdated() {
+		UserCredentials legacy = new UserCredentials(1L, "eduardo@teste.com", "$2a$04$legacy");
+		when(passwordEncoder.upgradeEncoding("$2a$04$legacy")).thenReturn(true);
+		when(passwordEncoder.encode("123456")).thenReturn("{bcrypt}$2a$10$current");
+
+		userService.upgradePasswordIfNeeded(legacy, "123456");
+
+		verify(userRepository).updatePassword(1L, "{bcrypt}$2a$10$current");
+		verify(userRepository, Mockito.never()).findById(any());
+	}
+
+	/**
+	 * Verifies that a current hash is left untouched: no encoding and no write.
+	 * Suppression is used to avoid STS4 false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should not re-hash password on login when stored hash is current")
+	void shouldNotUpgradePasswordWhenHashIsCurrent() {
+		when(passwordEncoder.upgradeEncoding(validCredentials.senha())).thenReturn(false);
+
+		userService.upgradePasswordIfNeeded(validCredentials, "123456");
+
+		verify(passwordEncoder, Mockito.never()).encode(any());
+		verify(userRepository, Mockito.never()).updatePassword(any(), any());
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when upgrading password of null user")
+	void shouldThrowWhenUpgradingPasswordOfNullUser() {
+		assertThrows(InvalidUserDataException.class, () -> userService.upgradePasswordIfNeeded(null, "123456"));
+	}
+
 	@SuppressWarnings({ "null" })
 	@Test
 	@DisplayName("Should update user and encode password when provided")
@@ -261,6 +733,88 @@ class UserServiceTest {
 		assertThrows(InvalidUserDataException.class, () -> userService.updateUser(1L, null));
 	}
 
+	/**
+	 * Verifies that a conditional update is a single statement: the user is never
+	 * loaded, read or locked before it, and the returned user carries the version
+	 * the statement returned. Suppression is used to avoid STS4 false-positives
+	 * on argument matchers.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should update user with a single conditional statement when version matches")
+	void shouldUpdateUserIfVersionMatches() {
+		User updates = new User(null, "New", " New@A.com ", null);
+		when(userRepository.updateIfVersionMatches(1L, 3L, "New", "new@a.com", null))
+				.thenReturn(Optional.of(new UserUpdateResult(4L, "eduardo@teste.com")));
+		when(tableVersionRepository.incrementAndGet(1L)).thenReturn(Optional.of(12L));
+
+		User updated = userService.updateUserIfMatch(1L, 3L, updates);
+
+		assertEquals(4L, updated.getVersao());
+		assertEquals("new@a.com", updated.getEmail());
+		verify(userRepository).updateIfVersionMatches(1L, 3L, "New", "new@a.com", null);
+		verify(userRepository, Mockito.never()).lockSummariesByIds(any());
+		verify(userRepository, Mockito.never()).existsById(any());
+		verify(userRepository, Mockito.never()).findById(any());
+		verify(userRepository, Mockito.never()).save(any(User.class));
+		verify(passwordEncoder, Mockito.never()).encode(any());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should throw UserVersionConflictException when version is stale")
+	void shouldThrowWhenUpdatingWithStaleVersion() {
+		User updates = new User(null, "New", "new@a.com", "pwd");
+		when(passwordEncoder.encode("pwd")).thenReturn("ENC");
+		when(userRepository.updateIfVersionMatches(1L, 2L, "New", "new@a.com", "ENC")).thenReturn(Optional.empty());
+		when(userRepository.existsById(1L)).thenReturn(true);
+
+		assertThrows(UserVersionConflictException.class, () -> userService.updateUserIfMatch(1L, 2L, updates));
+		verify(changeEventRepository, Mockito.never()).saveAll(any());
+		verify(tableVersionRepository, Mockito.never()).incrementAndGet(anyLong());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should throw UserNotFoundException on conditional update of a non-existing user")
+	void shouldThrowWhenConditionallyUpdatingNonExistingUser() {
+		User updates = new User(null, "New", "new@a.com", null);
+		when(userRepository.updateIfVersionMatches(1L, 3L, "New", "new@a.com", null)).thenReturn(Optional.empty());
+		when(userRepository.existsById(1L)).thenReturn(false);
+
+		assertThrows(UserNotFoundException.class, () -> userService.updateUserIfMatch(1L, 3L, updates));
+		verify(tableVersionRepository, Mockito.never()).incrementAndGet(anyLong());
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException on conditional update without a version")
+	void shouldThrowWhenConditionallyUpdatingWithoutVersion() {
+		User updates = new User(null, "New", "new@a.com", null);
+
+		assertThrows(InvalidUserDataException.class, () -> userService.updateUserIfMatch(1L, null, updates));
+	}
+
+	@Test
+	@DisplayName("Should search users with a lower-case substring pattern and escaped wildcards")
+	void shouldSearchUsersWithEscapedPattern() {
+		UserSummary summary = new UserSummary(5L, "Ana_50%", "ana@teste.com", 0L);
+		when(userRepository.searchByNomeOrEmail("%ana!_50!%%", 0L, Limit.of(20))).thenReturn(List.of(summary));
+
+		List<UserSummary> result = userService.searchUsers("  Ana_50% ", null, 20);
+
+		assertEquals(List.of(summary), result);
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when search term is too short or limit is invalid")
+	void shouldThrowWhenSearchIsInvalid() {
+		assertThrows(InvalidUserDataException.class, () -> userService.searchUsers(null, null, 20));
+		assertThrows(InvalidUserDataException.class, () -> userService.searchUsers(" ab ", null, 20));
+		assertThrows(InvalidUserDataException.class, () -> userService.searchUsers("ana", null, 0));
+		assertThrows(InvalidUserDataException.class,
+				() -> userService.searchUsers("ana", null, UserService.MAX_PAGE_SIZE + 1));
+	}
+
 	@Test
 	@DisplayName("Should throw InvalidUserDataException when validating null user (internal validation)")
 	void shouldThrowWhenValidatingNullUser() throws Exception {
@@ -287,22 +841,141 @@ class UserServiceTest {
 				new User(null, "Name", null, "pwd"), new User(null, "Name", "", "pwd"));
 	}
 
+	/**
+	 * Verifies that a delete is a single statement, whose returned email is all
+	 * the service needs: nothing is read or locked before it.
+	 */
 	@Test
-	@DisplayName("Should delete user successfully")
+	@DisplayName("Should delete user with a single statement")
 	void shouldDeleteUserSuccessfully() {
-		when(userRepository.existsById(1L)).thenReturn(true);
+		when(userRepository.deleteReturningEmail(1L)).thenReturn(Optional.of("eduardo@teste.com"));
 
 		userService.deleteUser(1L);
 
-		verify(userRepository).deleteById(1L);
+		verify(userRepository).deleteReturningEmail(1L);
+		verify(userRepository, Mockito.never()).lockSummariesByIds(any());
+		verify(userRepository, Mockito.never()).existsById(any());
+		verify(userRepository, Mockito.never()).deleteById(any());
 	}
 
+	@SuppressWarnings({ "null" })
 	@Test
 	@DisplayName("Should throw UserNotFoundException when deleting non-existing user")
 	void shouldThrowWhenDeletingNonExistingUser() {
-		when(userRepository.existsById(1L)).thenReturn(false);
+		when(userRepository.deleteReturningEmail(1L)).thenReturn(Optional.empty());
 
 		assertThrows(UserNotFoundException.class, () -> userService.deleteUser(1L));
+		verify(changeEventRepository, Mockito.never()).saveAll(any());
+		verify(tableVersionRepository, Mockito.never()).incrementAndGet(anyLong());
+	}
+
+	/**
+	 * Verifies that a bulk delete de-duplicates the ids, splits them into chunks
+	 * of 1000 per statement and records a change only for users that existed.
+	 * Suppression is used to avoid STS4 false-positives on argument matchers.
+	 */
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should delete users in chunks and return the deleted count")
+	void shouldDeleteUsersInChunks() {
+		List<Long> ids = new ArrayList<>();
+		for (long id = 1; id <= 2500; id++) {
+			ids.add(id);
+		}
+		ids.add(1L);
+		when(userRepository.lockSummariesByIds(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0)
+				.stream().filter(id -> id <= 2400).map(id -> new UserSummary(id, "Nome", id + "@teste.com", 0L))
+				.toList());
+		when(userRepository.deleteUsersByIds(any())).thenReturn(1000, 1000, 400);
+		when(tableVersionRepository.incrementAndGet(2400L)).thenReturn(Optional.of(2400L));
+
+		int deleted = userService.deleteUsers(ids);
+
+		assertEquals(2400, deleted);
+		verify(userRepository, times(3)).lockSummariesByIds(any());
+		verify(userRepository, times(3)).deleteUsersByIds(any());
+		verify(tableVersionRepository).incrementAndGet(2400L);
+		verify(changeEventRepository).saveAll(Mockito.<List<UserChangeEvent>>argThat(changes -> changes.size() == 2400));
+	}
+
+	@Test
+	@DisplayName("Should not bump users version when bulk delete removes nothing")
+	void shouldNotBumpVersionWhenBulkDeleteRemovesNothing() {
+		when(userRepository.lockSummariesByIds(any())).thenReturn(List.of());
+
+		assertEquals(0, userService.deleteUsers(List.of(7L)));
+		verify(userRepository, Mockito.never()).deleteUsersByIds(any());
+		verify(tableVersionRepository, Mockito.never()).incrementAndGet(anyLong());
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when bulk delete ids are empty, too many or contain null")
+	void shouldThrowWhenBulkDeleteIdsAreInvalid() {
+		List<Long> withNull = Arrays.asList(1L, null);
+		List<Long> tooMany = new ArrayList<>();
+		for (long id = 0; id <= UserService.MAX_BULK_DELETE; id++) {
+			tooMany.add(id);
+		}
+
+		assertThrows(InvalidUserDataException.class, () -> userService.deleteUsers(null));
+		assertThrows(InvalidUserDataException.class, () -> userService.deleteUsers(List.of()));
+		assertThrows(InvalidUserDataException.class, () -> userService.deleteUsers(withNull));
+		assertThrows(InvalidUserDataException.class, () -> userService.deleteUsers(tooMany));
+	}
+
+	@Test
+	@DisplayName("Should fetch users by id in chunks, in the requested order and without missing ids")
+	void shouldGetUsersByIdsInRequestedOrder() {
+		List<Long> ids = new ArrayList<>();
+		for (long id = 2500; id >= 1; id--) {
+			ids.add(id);
+		}
+		ids.add(2500L);
+		when(userRepository.findSummariesByIds(any())).thenAnswer(invocation -> invocation
+				.<List<Long>>getArgument(0).stream().filter(id -> id % 2 == 0).sorted()
+				.map(id -> new UserSummary(id, "User " + id, id + "@teste.com", 0L)).toList());
+
+		List<UserSummary> users = userService.getUsersByIds(ids);
+
+		assertEquals(1250, users.size());
+		assertEquals(2500L, users.get(0).id());
+		assertEquals(2498L, users.get(1).id());
+		assertEquals(2L, users.get(users.size() - 1).id());
+		verify(userRepository, times(3)).findSummariesByIds(any());
+	}
+
+	@Test
+	@DisplayName("Should throw InvalidUserDataException when batch get ids are empty, too many or contain null")
+	void shouldThrowWhenBatchGetIdsAreInvalid() {
+		List<Long> withNull = Arrays.asList(1L, null);
+		List<Long> tooMany = new ArrayList<>();
+		for (long id = 0; id <= UserService.MAX_BATCH_GET; id++) {
+			tooMany.add(id);
+		}
+
+		assertThrows(InvalidUserDataException.class, () -> userService.getUsersByIds(null));
+		assertThrows(InvalidUserDataException.class, () -> userService.getUsersByIds(List.of()));
+		assertThrows(InvalidUserDataException.class, () -> userService.getUsersByIds(withNull));
+		assertThrows(InvalidUserDataException.class, () -> userService.getUsersByIds(tooMany));
+		verify(userRepository, Mockito.never()).findSummariesByIds(any());
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should apply the batch get limit to distinct ids")
+	void shouldLimitBatchGetByDistinctIds() {
+		List<Long> repeated = new ArrayList<>();
+		for (long id = 0; id < 2L * UserService.MAX_BATCH_GET; id++) {
+			repeated.add(id % UserService.MAX_BATCH_GET);
+		}
+		List<Long> queried = new ArrayList<>();
+		when(userRepository.findSummariesByIds(any())).thenAnswer(invocation -> {
+			queried.addAll(invocation.getArgument(0));
+			return List.of();
+		});
+
+		assertEquals(List.of(), userService.getUsersByIds(repeated));
+		assertEquals(UserService.MAX_BATCH_GET, queried.size());
 	}
 
 	@Test
@@ -314,12 +987,49 @@ class UserServiceTest {
 	@Test
 	@DisplayName("Should throw IllegalArgumentException when repository is null in constructor")
 	void shouldThrowWhenRepositoryIsNullInConstructor() {
-		assertThrows(IllegalArgumentException.class, () -> new UserService(null, passwordEncoder));
+		assertThrows(IllegalArgumentException.class, () -> new UserService(null, tableVersionRepository,
+				changeEventRepository, passwordEncoder, eventPublisher, transactionManager, cacheManager));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when table version repository is null in constructor")
+	void shouldThrowWhenTableVersionRepositoryIsNullInConstructor() {
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, null,
+				changeEventRepository, passwordEncoder, eventPublisher, transactionManager, cacheManager));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when change event repository is null in constructor")
+	void shouldThrowWhenChangeEventRepositoryIsNullInConstructor() {
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, tableVersionRepository,
+				null, passwordEncoder, eventPublisher, transactionManager, cacheManager));
 	}
 
 	@Test
 	@DisplayName("Should throw IllegalArgumentException when passwordEncoder is null in constructor")
 	void shouldThrowWhenPasswordEncoderIsNullInConstructor() {
-		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, null));
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, tableVersionRepository,
+				changeEventRepository, null, eventPublisher, transactionManager, cacheManager));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when event publisher is null in constructor")
+	void shouldThrowWhenEventPublisherIsNullInConstructor() {
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, tableVersionRepository,
+				changeEventRepository, passwordEncoder, null, transactionManager, cacheManager));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when transaction manager is null in constructor")
+	void shouldThrowWhenTransactionManagerIsNullInConstructor() {
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, tableVersionRepository,
+				changeEventRepository, passwordEncoder, eventPublisher, null, cacheManager));
+	}
+
+	@Test
+	@DisplayName("Should throw IllegalArgumentException when cache manager is null in constructor")
+	void shouldThrowWhenCacheManagerIsNullInConstructor() {
+		assertThrows(IllegalArgumentException.class, () -> new UserService(userRepository, tableVersionRepository,
+				changeEventRepository, passwordEncoder, eventPublisher, transactionManager, null));
 	}
 }
@@ -0,0 +1,150 @@
+package br.com.eaugusto.service.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.eaugusto.model.AppInit;
+import br.com.eaugusto.model.User;
+import br.com.eaugusto.repository.projection.UserCredentials;
+import br.com.eaugusto.service.IUserService;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Unit tests for {@link BootstrapService} with a mocked user service standing
+ * in for the database: the admin exists from the moment {@code saveUser} runs
+ * until a test deletes it.
+ * <p>
+ * {@code @SuppressWarnings("null")} is used on tests with Mockito matchers, for
+ * the STS4 null-analysis reason explained in {@code UserServiceTest}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 18, 2026
+ */
+class BootstrapServiceTest {
+
+	private static final int CONCURRENT_CALLERS = 16;
+
+	@Mock
+	private IUserService userService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private EntityManager entityManager;
+
+	private final AtomicReference<UserCredentials> admin = new AtomicReference<>();
+
+	private BootstrapService bootstrapService;
+	private ExecutorService callers;
+
+	@SuppressWarnings({ "null" })
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		bootstrapService = new BootstrapService(userService, transactionManager);
+		ReflectionTestUtils.setField(bootstrapService, "entityManager", entityManager);
+		ReflectionTestUtils.setField(bootstrapService, "dbPassword", "senha-do-banco");
+		callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+
+		when(userService.findCredentialsByEmail(BootstrapService.ADMIN_EMAIL))
+				.thenAnswer(invocation -> Optional.ofNullable(admin.get()));
+		when(userService.saveUser(any(User.class))).thenAnswer(invocation -> {
+			// Leaves time for the other callers to pile up behind this run.
+			Thread.sleep(20);
+			User user = invocation.getArgument(0);
+			admin.set(new UserCredentials(1L, user.getEmail(), user.getSenha()));
+			return user;
+		});
+	}
+
+	@AfterEach
+	void teardown() {
+		callers.shutdownNow();
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should create the admin once when many first requests arrive together")
+	void shouldCreateAdminOnceUnderConcurrentCalls() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> results = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+			results.add(callers.submit(() -> {
+				start.await();
+				bootstrapService.ensureInitialized();
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> result : results) {
+			result.get(5, TimeUnit.SECONDS);
+		}
+
+		assertTrue(bootstrapService.isInitialized());
+		verify(userService, times(1)).saveUser(any(User.class));
+		verify(entityManager, times(1)).persist(any(AppInit.class));
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should not open a transaction once the admin exists")
+	void shouldSkipBootstrapOnceInitialized() {
+		bootstrapService.ensureInitialized();
+		bootstrapService.ensureInitialized();
+		bootstrapService.ensureInitialized();
+
+		verify(transactionManager, times(1)).getTransaction(any());
+		verify(userService, times(1)).saveUser(any(User.class));
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should create the admin again when it was deleted after bootstrap")
+	void shouldRecreateDeletedAdmin() {
+		bootstrapService.ensureInitialized();
+		admin.set(null);
+
+		bootstrapService.ensureInitialized();
+
+		assertTrue(bootstrapService.isInitialized());
+		verify(userService, times(2)).saveUser(any(User.class));
+	}
+
+	@SuppressWarnings({ "null" })
+	@Test
+	@DisplayName("Should keep an existing admin instead of creating another")
+	void shouldKeepExistingAdmin() {
+		admin.set(new UserCredentials(1L, BootstrapService.ADMIN_EMAIL, "hash"));
+
+		bootstrapService.ensureInitialized();
+
+		assertTrue(bootstrapService.isInitialized());
+		verify(userService, never()).saveUser(any(User.class));
+	}
+}